@@ -0,0 +1,78 @@
+package seedu.address.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Appointment;
+import seedu.address.model.person.AppointmentManager;
+import seedu.address.model.person.Date;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Time;
+
+/**
+ * Measures the clash checks of {@code AppointmentManager}: checking a new appointment against the busiest doctor, as
+ * done by {@code schedule}, and checking a period against every doctor, as done by {@code avail}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AppointmentBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int personCount;
+
+    private ArrayList<Appointment> busiestAppointmentList;
+    private Appointment newAppointment;
+    private List<Person> doctors;
+    private Date date;
+    private Time startTime;
+    private Time endTime;
+
+    @Setup
+    public void setUp() {
+        AddressBook addressBook = SyntheticAddressBook.generate(personCount, SyntheticAddressBook.DEFAULT_SEED);
+        doctors = addressBook.getDoctorList();
+        Person busiestDoctor = doctors.get(0);
+        for (Person doctor : doctors) {
+            if (doctor.getAppointmentList().size() > busiestDoctor.getAppointmentList().size()) {
+                busiestDoctor = doctor;
+            }
+        }
+        busiestAppointmentList = busiestDoctor.getAppointmentList();
+
+        // the last slot of the first day is taken by most doctors, so the checks cannot stop early for all of them
+        Appointment firstAppointment = busiestAppointmentList.get(0);
+        newAppointment = new Appointment(firstAppointment.getDateString(), "1630", "1700",
+                busiestDoctor.getName().fullName, busiestDoctor.getNric().toString(), "Jack", "S3869036A");
+        date = new Date(firstAppointment.getDateString());
+        startTime = new Time("1630");
+        endTime = new Time("1700");
+    }
+
+    @Benchmark
+    public boolean isClash() {
+        return AppointmentManager.isClash(busiestAppointmentList, newAppointment);
+    }
+
+    @Benchmark
+    public int isAnyAppointmentOngoingForEveryDoctor() {
+        int busyDoctors = 0;
+        for (Person doctor : doctors) {
+            if (AppointmentManager.isAnyAppointmentOngoing(doctor.getAppointmentList(), date, startTime, endTime)) {
+                busyDoctors++;
+            }
+        }
+        return busyDoctors;
+    }
+}
@@ -0,0 +1,64 @@
+package seedu.address.benchmark;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GLOBAL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+
+/**
+ * Measures a full scan of the person list with {@code PersonContainsKeywordsPredicate#test}, as done by
+ * {@code find} when the search index is not used.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PersonSearchBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int personCount;
+
+    private List<Person> persons;
+    private PersonContainsKeywordsPredicate namePredicate;
+    private PersonContainsKeywordsPredicate globalPredicate;
+
+    @Setup
+    public void setUp() {
+        persons = SyntheticAddressBook.generate(personCount, SyntheticAddressBook.DEFAULT_SEED).getPersonList();
+        namePredicate = new PersonContainsKeywordsPredicate(Map.of(PREFIX_NAME, List.of("tan", "wei")));
+        globalPredicate = new PersonContainsKeywordsPredicate(Map.of(PREFIX_GLOBAL, List.of("cardio")));
+    }
+
+    @Benchmark
+    public int testByName() {
+        return countMatches(namePredicate);
+    }
+
+    @Benchmark
+    public int testAllFields() {
+        return countMatches(globalPredicate);
+    }
+
+    private int countMatches(PersonContainsKeywordsPredicate predicate) {
+        int matches = 0;
+        for (Person person : persons) {
+            if (predicate.test(person)) {
+                matches++;
+            }
+        }
+        return matches;
+    }
+}
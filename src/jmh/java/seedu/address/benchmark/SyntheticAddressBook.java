@@ -0,0 +1,178 @@
+package seedu.address.benchmark;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.doctor.Doctor;
+import seedu.address.model.doctor.MedicalDepartment;
+import seedu.address.model.patient.MedicalRecord;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Appointment;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Phone;
+import seedu.address.model.util.SampleDataUtil;
+
+/**
+ * Generates clinic address books of any size for the benchmarks, in the style of {@code SampleDataUtil}.
+ * The same size, seed and first appointment date always give the same address book, so that the results of
+ * different runs can be compared.
+ *
+ * There is one doctor for every {@code PATIENTS_PER_DOCTOR} patients, spread evenly over the departments. Every
+ * patient has up to {@code MAX_APPOINTMENTS_PER_PATIENT} appointments with doctors picked at random, and a medical
+ * record library of up to {@code MAX_RECORDS_PER_PATIENT} records from the {@code RECORD_YEARS} years before the
+ * first appointment date. Each appointment is booked in the next free half-hour slot of the doctor from 0900 to 1700,
+ * so the calendar of every doctor is full from the first appointment date onwards and no two appointments of a
+ * doctor clash.
+ */
+public class SyntheticAddressBook {
+    public static final long DEFAULT_SEED = 2103;
+    public static final LocalDate DEFAULT_FIRST_APPOINTMENT_DATE = LocalDate.of(2019, 1, 1);
+    public static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd.MM.yyyy");
+    public static final int PATIENTS_PER_DOCTOR = 10;
+    public static final int MAX_APPOINTMENTS_PER_PATIENT = 4;
+    public static final int MAX_RECORDS_PER_PATIENT = 6;
+    public static final int RECORD_YEARS = 3;
+    public static final String[] DEPARTMENTS = {"Cardiology", "Neurology", "Obstetrics", "Oncology",
+        "Orthopaedics", "Paediatrics"};
+
+    private static final int FIRST_NRIC_CODE_NUMBER = 1000000;
+    private static final int FIRST_SLOT_HOUR = 9;
+    private static final int SLOTS_PER_DAY = 16;
+    private static final int SLOT_MINUTES = 30;
+
+    private static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Kenneth",
+        "Mei Ling", "Siti", "Rajesh", "Wei Jie", "Nur", "Priya", "Hui Min", "Ahmad", "Jia Hui"};
+    private static final String[] LAST_NAMES = {"Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Goh",
+        "Tan", "Lim", "Ng", "Wong", "Kumar", "Rahman", "Chua", "Teo", "Koh"};
+    private static final String[] DIAGNOSES = {"flu", "cough", "fever", "sprained ankle", "hypertension",
+        "diabetes", "asthma", "migraine"};
+    private static final String[] TREATMENTS = {"rest", "paracetamol", "physiotherapy", "insulin", "inhaler",
+        "tamiflu"};
+
+    private SyntheticAddressBook() {}
+
+    /**
+     * Returns an address book of {@code personCount} persons generated from {@code seed}, with appointments from
+     * {@code DEFAULT_FIRST_APPOINTMENT_DATE} onwards.
+     */
+    public static AddressBook generate(int personCount, long seed) {
+        return generate(personCount, seed, DEFAULT_FIRST_APPOINTMENT_DATE);
+    }
+
+    /**
+     * Returns an address book of {@code personCount} persons generated from {@code seed}, with appointments from
+     * {@code firstAppointmentDate} onwards.
+     */
+    public static AddressBook generate(int personCount, long seed, LocalDate firstAppointmentDate) {
+        Random random = new Random(seed);
+        int doctorCount = Math.max(1, personCount / (PATIENTS_PER_DOCTOR + 1));
+        int patientCount = personCount - doctorCount;
+
+        List<Name> doctorNames = new ArrayList<>();
+        List<ArrayList<Appointment>> doctorAppointments = new ArrayList<>();
+        for (int i = 0; i < doctorCount; i++) {
+            doctorNames.add(randomName(random));
+            doctorAppointments.add(new ArrayList<>());
+        }
+
+        List<Patient> patients = new ArrayList<>();
+        for (int i = 0; i < patientCount; i++) {
+            Name name = randomName(random);
+            Nric nric = nricOf(doctorCount + i);
+            ArrayList<Appointment> appointments = new ArrayList<>();
+            int appointmentCount = random.nextInt(MAX_APPOINTMENTS_PER_PATIENT + 1);
+            for (int j = 0; j < appointmentCount; j++) {
+                int doctor = random.nextInt(doctorCount);
+                Appointment appointment = appointmentInSlot(firstAppointmentDate,
+                        doctorAppointments.get(doctor).size(), doctorNames.get(doctor), nricOf(doctor), name, nric);
+                doctorAppointments.get(doctor).add(appointment);
+                appointments.add(appointment);
+            }
+            patients.add(new Patient(name, nric, randomPhone(random), emailOf(doctorCount + i),
+                    randomAddress(random), SampleDataUtil.getTagSet(), appointments,
+                    randomMedicalRecordLibrary(random, firstAppointmentDate)));
+        }
+
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < doctorCount; i++) {
+            addressBook.addPerson(new Doctor(doctorNames.get(i), nricOf(i), randomPhone(random), emailOf(i),
+                    randomAddress(random), SampleDataUtil.getTagSet(), doctorAppointments.get(i),
+                    new MedicalDepartment(DEPARTMENTS[i % DEPARTMENTS.length])));
+        }
+        patients.forEach(addressBook::addPerson);
+        return addressBook;
+    }
+
+    /**
+     * Returns the nric of the {@code index}-th generated person.
+     */
+    public static Nric nricOf(int index) {
+        return new Nric("S" + Nric.generateCode(FIRST_NRIC_CODE_NUMBER + index));
+    }
+
+    /**
+     * Returns the appointment in the {@code slot}-th slot of a doctor's calendar that starts on
+     * {@code firstAppointmentDate}.
+     */
+    private static Appointment appointmentInSlot(LocalDate firstAppointmentDate, int slot, Name doctorName,
+                                                 Nric doctorNric, Name patientName, Nric patientNric) {
+        String date = firstAppointmentDate.plusDays(slot / SLOTS_PER_DAY).format(DATE_FORMATTER);
+        int startMinutes = FIRST_SLOT_HOUR * 60 + (slot % SLOTS_PER_DAY) * SLOT_MINUTES;
+        return new Appointment(date, timeOf(startMinutes), timeOf(startMinutes + SLOT_MINUTES),
+                doctorName.fullName, doctorNric.toString(), patientName.fullName, patientNric.toString());
+    }
+
+    /**
+     * Returns at least one medical record, from the {@code RECORD_YEARS} years before {@code firstAppointmentDate},
+     * oldest first.
+     */
+    private static ArrayList<MedicalRecord> randomMedicalRecordLibrary(Random random, LocalDate firstAppointmentDate) {
+        int recordCount = 1 + random.nextInt(MAX_RECORDS_PER_PATIENT);
+        int recordDays = RECORD_YEARS * 365;
+        List<Integer> daysBefore = new ArrayList<>();
+        for (int i = 0; i < recordCount; i++) {
+            daysBefore.add(1 + random.nextInt(recordDays));
+        }
+        daysBefore.sort(Collections.reverseOrder());
+
+        ArrayList<MedicalRecord> library = new ArrayList<>();
+        for (int days : daysBefore) {
+            library.add(new MedicalRecord(firstAppointmentDate.minusDays(days).format(DATE_FORMATTER),
+                    DIAGNOSES[random.nextInt(DIAGNOSES.length)], TREATMENTS[random.nextInt(TREATMENTS.length)], ""));
+        }
+        return library;
+    }
+
+    /**
+     * Returns {@code minutes} after midnight in the 24 hour format of {@code Time}.
+     */
+    private static String timeOf(int minutes) {
+        return String.format("%02d%02d", minutes / 60, minutes % 60);
+    }
+
+    static Name randomName(Random random) {
+        return new Name(FIRST_NAMES[random.nextInt(FIRST_NAMES.length)] + " "
+                + LAST_NAMES[random.nextInt(LAST_NAMES.length)]);
+    }
+
+    static Phone randomPhone(Random random) {
+        return new Phone(Integer.toString(80000000 + random.nextInt(20000000)));
+    }
+
+    static Email emailOf(int index) {
+        return new Email("person" + index + "@example.com");
+    }
+
+    static Address randomAddress(Random random) {
+        return new Address("Blk " + (1 + random.nextInt(999)) + " " + LAST_NAMES[random.nextInt(LAST_NAMES.length)]
+                + " Street " + (1 + random.nextInt(99)));
+    }
+}
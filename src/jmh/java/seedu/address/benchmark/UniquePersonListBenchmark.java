@@ -0,0 +1,69 @@
+package seedu.address.benchmark;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.UniquePersonList;
+
+/**
+ * Measures the identity lookups of {@code UniquePersonList}, for persons picked at random from the whole list.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class UniquePersonListBenchmark {
+    private static final int LOOKUP_COUNT = 1024;
+
+    @Param({"1000", "10000", "100000"})
+    public int personCount;
+
+    private UniquePersonList persons;
+    private Person[] lookups;
+    private int nextLookup;
+
+    @Setup
+    public void setUp() {
+        List<Person> generatedPersons =
+                SyntheticAddressBook.generate(personCount, SyntheticAddressBook.DEFAULT_SEED).getPersonList();
+        persons = new UniquePersonList();
+        persons.setPersons(generatedPersons);
+
+        Random random = new Random(SyntheticAddressBook.DEFAULT_SEED);
+        lookups = new Person[LOOKUP_COUNT];
+        for (int i = 0; i < LOOKUP_COUNT; i++) {
+            lookups[i] = generatedPersons.get(random.nextInt(generatedPersons.size()));
+        }
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return persons.contains(nextLookup());
+    }
+
+    @Benchmark
+    public Optional<Person> getPerson() {
+        return persons.getPerson(nextLookup().getNric());
+    }
+
+    @Benchmark
+    public int indexOf() {
+        return persons.indexOf(nextLookup());
+    }
+
+    private Person nextLookup() {
+        nextLookup = (nextLookup + 1) % LOOKUP_COUNT;
+        return lookups[nextLookup];
+    }
+}
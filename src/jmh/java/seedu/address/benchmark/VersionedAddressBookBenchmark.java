@@ -0,0 +1,69 @@
+package seedu.address.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import seedu.address.model.UserPrefs;
+import seedu.address.model.VersionedAddressBook;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+
+/**
+ * Measures committing a one-person change to a {@code VersionedAddressBook}, and undoing and redoing it, in both
+ * history modes.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class VersionedAddressBookBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int personCount;
+
+    @Param({"SNAPSHOT", "DELTA"})
+    public VersionedAddressBook.HistoryMode historyMode;
+
+    private VersionedAddressBook versionedAddressBook;
+    private Person storedPerson;
+    private Person otherVersion;
+
+    @Setup
+    public void setUp() {
+        versionedAddressBook = new VersionedAddressBook(
+                SyntheticAddressBook.generate(personCount, SyntheticAddressBook.DEFAULT_SEED),
+                UserPrefs.DEFAULT_HISTORY_DEPTH, historyMode);
+        // the persons after the doctors are all patients
+        Patient patient = (Patient) versionedAddressBook.getPersonList().get(personCount - 1);
+        storedPerson = patient;
+        otherVersion = new Patient(patient.getName(), patient.getNric(), new Phone("99999999"), patient.getEmail(),
+                patient.getAddress(), patient.getTags(), patient.getAppointmentList(),
+                patient.getMedicalRecordLibrary());
+
+        // leaves a state to undo
+        commit();
+    }
+
+    @Benchmark
+    public void commit() {
+        versionedAddressBook.updatePerson(storedPerson, otherVersion);
+        versionedAddressBook.commit();
+        Person previousVersion = storedPerson;
+        storedPerson = otherVersion;
+        otherVersion = previousVersion;
+    }
+
+    @Benchmark
+    public void undoAndRedo() {
+        versionedAddressBook.undo();
+        versionedAddressBook.redo();
+    }
+}
@@ -0,0 +1,165 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+/**
+ * Replays a script of user commands through {@code LogicManager#execute} without the UI, and reports the latency of
+ * each command word. Runs with {@code ./gradlew replayWorkload -PreplayArgs="--persons 100000"}.
+ *
+ * The commands are replayed against an address book generated by {@code SyntheticAddressBook}, with appointments
+ * from tomorrow onwards. Unless a script file is given, the script is generated by {@code WorkloadScript}. The script
+ * is first replayed {@code --warmup} times against fresh copies of the address book, so that the reported latencies
+ * are those of compiled code.
+ */
+public class WorkloadReplay {
+    private static final String USAGE = "Options: [--persons COUNT] [--commands COUNT] [--seed SEED] "
+            + "[--warmup ROUNDS] [--script FILE]";
+
+    private static final Map<String, String> DEFAULT_OPTIONS = Map.of(
+            "persons", "10000",
+            "commands", "2000",
+            "seed", Long.toString(SyntheticAddressBook.DEFAULT_SEED),
+            "warmup", "1");
+
+    /**
+     * The latencies of the replayed commands with one command word, and how many of them failed.
+     */
+    private static class CommandLatencies {
+        private final List<Long> latenciesNanos = new ArrayList<>();
+        private int failureCount;
+
+        void record(long latencyNanos, boolean isFailure) {
+            latenciesNanos.add(latencyNanos);
+            if (isFailure) {
+                failureCount++;
+            }
+        }
+
+        String toReportLine(String commandWord) {
+            List<Long> sortedLatenciesNanos = new ArrayList<>(latenciesNanos);
+            Collections.sort(sortedLatenciesNanos);
+            return String.format("%-10s %8d %8d %12d %12d %12d", commandWord, sortedLatenciesNanos.size(),
+                    failureCount, toMicros(getPercentileNanos(sortedLatenciesNanos, 50)),
+                    toMicros(getPercentileNanos(sortedLatenciesNanos, 99)),
+                    toMicros(sortedLatenciesNanos.get(sortedLatenciesNanos.size() - 1)));
+        }
+    }
+
+    private WorkloadReplay() {}
+
+    public static void main(String[] args) throws IOException {
+        Map<String, String> options = parseOptions(args);
+        int personCount = Integer.parseInt(options.get("persons"));
+        int commandCount = Integer.parseInt(options.get("commands"));
+        long seed = Long.parseLong(options.get("seed"));
+        int warmupRounds = Integer.parseInt(options.get("warmup"));
+
+        // the loggers of LogsCenter have no level of their own, so this keeps the log of every command out of the
+        // measured latencies
+        Logger.getLogger("").setLevel(Level.WARNING);
+
+        LocalDate firstAppointmentDate = LocalDate.now().plusDays(1);
+        AddressBook addressBook = SyntheticAddressBook.generate(personCount, seed, firstAppointmentDate);
+        List<String> script = options.containsKey("script")
+                ? Files.readAllLines(Paths.get(options.get("script")))
+                : WorkloadScript.generate(addressBook, commandCount, seed, firstAppointmentDate);
+
+        for (int i = 0; i < warmupRounds; i++) {
+            replay(addressBook, script);
+        }
+        Map<String, CommandLatencies> latenciesByCommandWord = replay(addressBook, script);
+
+        System.out.println("Replayed " + script.size() + " commands against " + personCount + " persons (seed "
+                + seed + ")");
+        System.out.println(String.format("%-10s %8s %8s %12s %12s %12s", "command", "count", "failed",
+                "p50 (us)", "p99 (us)", "max (us)"));
+        latenciesByCommandWord.forEach((commandWord, latencies) ->
+                System.out.println(latencies.toReportLine(commandWord)));
+    }
+
+    /**
+     * Executes every command of {@code script} in order on a new logic component for a copy of {@code addressBook},
+     * and returns the latencies of the commands by command word.
+     * The components are closed afterwards, so that the rounds replayed before do not keep handling the events of
+     * the later ones.
+     */
+    private static Map<String, CommandLatencies> replay(AddressBook addressBook, List<String> script) {
+        Model model = new ModelManager(addressBook, new UserPrefs());
+        Logic logic = new LogicManager(model);
+        Map<String, CommandLatencies> latenciesByCommandWord = new TreeMap<>();
+        try {
+            for (String commandText : script) {
+                if (commandText.trim().isEmpty()) {
+                    continue;
+                }
+
+                boolean isFailure = false;
+                long startTime = System.nanoTime();
+                try {
+                    logic.execute(commandText);
+                } catch (CommandException | ParseException e) {
+                    isFailure = true;
+                }
+                long latencyNanos = System.nanoTime() - startTime;
+
+                String commandWord = commandText.trim().split("\\s+")[0];
+                latenciesByCommandWord.computeIfAbsent(commandWord, unused -> new CommandLatencies())
+                        .record(latencyNanos, isFailure);
+            }
+        } finally {
+            logic.close();
+            model.close();
+        }
+        return latenciesByCommandWord;
+    }
+
+    /**
+     * Returns the values of the options in {@code args}, given as pairs of {@code --name value}, along with the
+     * default values of the options that are not given.
+     */
+    private static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>(DEFAULT_OPTIONS);
+        for (int i = 0; i < args.length; i++) {
+            String name = args[i].startsWith("--") ? args[i].substring(2) : "";
+            if (!(DEFAULT_OPTIONS.containsKey(name) || name.equals("script")) || i + 1 == args.length) {
+                throw new IllegalArgumentException("Unknown option " + args[i] + "\n" + USAGE);
+            }
+            options.put(name, args[++i]);
+        }
+        return options;
+    }
+
+    /**
+     * Returns the latency that {@code percentile} percent of the latencies in {@code sortedLatenciesNanos} are at
+     * most, by the nearest-rank method.
+     */
+    private static long getPercentileNanos(List<Long> sortedLatenciesNanos, double percentile) {
+        int rank = (int) Math.ceil(percentile / 100 * sortedLatenciesNanos.size());
+        return sortedLatenciesNanos.get(Math.max(rank, 1) - 1);
+    }
+
+    private static long toMicros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+}
@@ -0,0 +1,144 @@
+package seedu.address.benchmark;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_COMMENT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DIAGNOSIS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DOCTOR_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DOCTOR_NRIC;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MEDICAL_DEPARTMENT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NRIC;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PATIENT_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PATIENT_NRIC;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TREATMENT;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import seedu.address.logic.commands.AddCommand;
+import seedu.address.logic.commands.AvailCommand;
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.ScheduleCommand;
+import seedu.address.logic.commands.UndoCommand;
+import seedu.address.logic.commands.UpdateCommand;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * Generates a script of user commands for an address book made by {@code SyntheticAddressBook}, mixing searches,
+ * appointment scheduling, medical record updates, availability checks, registrations and undos in the proportions
+ * of a busy clinic front desk. The same address book and seed always give the same script.
+ *
+ * Commands that act on a person by index are preceded by a {@code find} of the person's nric, so that the person is
+ * the first one listed, just as a user would find the person first.
+ */
+public class WorkloadScript {
+    private static final int FIND_PERCENTAGE = 30;
+    private static final int SCHEDULE_PERCENTAGE = 20;
+    private static final int UPDATE_PERCENTAGE = 15;
+    private static final int AVAIL_PERCENTAGE = 15;
+    private static final int ADD_PERCENTAGE = 10;
+
+    /** Scheduled appointments are booked after working hours, when the generated calendars are still free */
+    private static final int FIRST_EVENING_SLOT_HOUR = 18;
+    private static final int EVENING_HOURS = 4;
+    private static final int SCHEDULED_DAYS = 30;
+
+    private WorkloadScript() {}
+
+    /**
+     * Returns a script of at least {@code commandCount} commands for {@code addressBook}, which was generated with
+     * appointments from {@code firstAppointmentDate} onwards.
+     * {@code firstAppointmentDate} must not be in the past, as the commands would then be rejected.
+     */
+    public static List<String> generate(AddressBook addressBook, int commandCount, long seed,
+                                        LocalDate firstAppointmentDate) {
+        Random random = new Random(seed);
+        List<Person> patients = addressBook.getPatientList();
+        List<Person> doctors = addressBook.getDoctorList();
+        int nextAddedPerson = addressBook.getPersonList().size();
+
+        List<String> script = new ArrayList<>();
+        while (script.size() < commandCount) {
+            int roll = random.nextInt(100);
+            if (roll < FIND_PERCENTAGE) {
+                script.add(findCommand(random, patients));
+            } else if (roll < FIND_PERCENTAGE + SCHEDULE_PERCENTAGE) {
+                Person patient = patients.get(random.nextInt(patients.size()));
+                script.add(FindCommand.COMMAND_WORD + " " + PREFIX_NRIC + patient.getNric());
+                script.add(scheduleCommand(random, patient, doctors.get(random.nextInt(doctors.size())),
+                        firstAppointmentDate));
+            } else if (roll < FIND_PERCENTAGE + SCHEDULE_PERCENTAGE + UPDATE_PERCENTAGE) {
+                Person patient = patients.get(random.nextInt(patients.size()));
+                script.add(FindCommand.COMMAND_WORD + " " + PREFIX_NRIC + patient.getNric());
+                script.add(UpdateCommand.COMMAND_WORD + " 1 "
+                        + PREFIX_DATE + firstAppointmentDate.format(SyntheticAddressBook.DATE_FORMATTER) + " "
+                        + PREFIX_DIAGNOSIS + "fever " + PREFIX_TREATMENT + "paracetamol " + PREFIX_COMMENT + "review");
+            } else if (roll < FIND_PERCENTAGE + SCHEDULE_PERCENTAGE + UPDATE_PERCENTAGE + AVAIL_PERCENTAGE) {
+                script.add(availCommand(random, firstAppointmentDate));
+            } else if (roll < FIND_PERCENTAGE + SCHEDULE_PERCENTAGE + UPDATE_PERCENTAGE + AVAIL_PERCENTAGE
+                    + ADD_PERCENTAGE) {
+                script.add(addCommand(random, nextAddedPerson++));
+            } else {
+                script.add(UndoCommand.COMMAND_WORD);
+            }
+        }
+        return script;
+    }
+
+    /**
+     * Returns a search by name, by medical department, or over all fields.
+     */
+    private static String findCommand(Random random, List<Person> patients) {
+        String[] nameParts = patients.get(random.nextInt(patients.size())).getName().fullName.split(" ");
+        String lastName = nameParts[nameParts.length - 1];
+        switch (random.nextInt(3)) {
+        case 0:
+            return FindCommand.COMMAND_WORD + " " + PREFIX_NAME + lastName;
+        case 1:
+            return FindCommand.COMMAND_WORD + " " + PREFIX_MEDICAL_DEPARTMENT
+                    + SyntheticAddressBook.DEPARTMENTS[random.nextInt(SyntheticAddressBook.DEPARTMENTS.length)];
+        default:
+            return FindCommand.COMMAND_WORD + " " + lastName;
+        }
+    }
+
+    private static String scheduleCommand(Random random, Person patient, Person doctor,
+                                          LocalDate firstAppointmentDate) {
+        String date = firstAppointmentDate.plusDays(random.nextInt(SCHEDULED_DAYS))
+                .format(SyntheticAddressBook.DATE_FORMATTER);
+        int startHour = FIRST_EVENING_SLOT_HOUR + random.nextInt(EVENING_HOURS);
+        String startMinute = random.nextBoolean() ? "00" : "30";
+        return ScheduleCommand.COMMAND_WORD + " 1 " + PREFIX_DATE + date + " "
+                + PREFIX_START_TIME + startHour + startMinute + " "
+                + PREFIX_END_TIME + (startHour + 1) + startMinute + " "
+                + PREFIX_DOCTOR_NAME + doctor.getName() + " " + PREFIX_DOCTOR_NRIC + doctor.getNric() + " "
+                + PREFIX_PATIENT_NAME + patient.getName() + " " + PREFIX_PATIENT_NRIC + patient.getNric();
+    }
+
+    private static String availCommand(Random random, LocalDate firstAppointmentDate) {
+        String date = firstAppointmentDate.plusDays(random.nextInt(SCHEDULED_DAYS))
+                .format(SyntheticAddressBook.DATE_FORMATTER);
+        int startHour = 9 + random.nextInt(8);
+        return AvailCommand.COMMAND_WORD + " " + PREFIX_DATE + date + " "
+                + PREFIX_START_TIME + String.format("%02d00", startHour) + " "
+                + PREFIX_END_TIME + String.format("%02d30", startHour);
+    }
+
+    private static String addCommand(Random random, int personIndex) {
+        return AddCommand.COMMAND_WORD + " " + PREFIX_ROLE + "patient "
+                + PREFIX_NAME + SyntheticAddressBook.randomName(random) + " "
+                + PREFIX_NRIC + SyntheticAddressBook.nricOf(personIndex) + " "
+                + PREFIX_PHONE + SyntheticAddressBook.randomPhone(random) + " "
+                + PREFIX_EMAIL + SyntheticAddressBook.emailOf(personIndex) + " "
+                + PREFIX_ADDRESS + SyntheticAddressBook.randomAddress(random);
+    }
+}
@@ -0,0 +1,66 @@
+package seedu.address.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.XmlAddressBookStorage;
+
+/**
+ * Measures saving an address book to, and loading it from, an xml file with {@code XmlAddressBookStorage}.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class XmlAddressBookStorageBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int personCount;
+
+    private AddressBook addressBook;
+    private Path directory;
+    private Path loadFilePath;
+    private Path saveFilePath;
+    private XmlAddressBookStorage storage;
+
+    @Setup
+    public void setUp() throws IOException {
+        addressBook = SyntheticAddressBook.generate(personCount, SyntheticAddressBook.DEFAULT_SEED);
+        directory = Files.createTempDirectory("xmlStorageBenchmark");
+        loadFilePath = directory.resolve("load.xml");
+        saveFilePath = directory.resolve("save.xml");
+        storage = new XmlAddressBookStorage(loadFilePath);
+        storage.saveAddressBook(addressBook, loadFilePath);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(loadFilePath);
+        Files.deleteIfExists(saveFilePath);
+        Files.deleteIfExists(directory);
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        storage.saveAddressBook(addressBook, saveFilePath);
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook load() throws DataConversionException, IOException {
+        return storage.readAddressBook(loadFilePath).get();
+    }
+}
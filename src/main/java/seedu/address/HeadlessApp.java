@@ -0,0 +1,101 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.server.CommandServer;
+
+/**
+ * The entry point to the application without the GUI, which serves one address book to the terminals of a clinic
+ * with a {@link CommandServer} instead. The JavaFX toolkit is never started.
+ *
+ * Takes the named parameters {@code --config=FILE}, as the GUI does, {@code --port=PORT} and {@code --host=HOST}.
+ * The server only accepts connections from this computer unless a host to listen on is given.
+ */
+public class HeadlessApp extends MainApp {
+
+    public static final int DEFAULT_PORT = 8023;
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private CommandServer server;
+
+    /**
+     * Initializes the app with {@code namedParameters} and starts serving requests. The address book is saved and
+     * the server stopped when the JVM shuts down.
+     */
+    public void start(Map<String, String> namedParameters) throws IOException {
+        logger.info("=========================[ Initializing One Life Server ]=========================");
+        initComponents(AppParameters.parse(namedParameters));
+
+        server = new CommandServer(model, getServerAddress(namedParameters));
+        server.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(this::stopServer, "Server shutdown"));
+    }
+
+    /**
+     * Stops serving requests, and saves the address book and user prefs.
+     */
+    private void stopServer() {
+        logger.info("=========================[ Stopping One Life Server ]=========================");
+        server.stop();
+        storage.flushAddressBook();
+        try {
+            storage.saveUserPrefs(userPrefs);
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Returns the address given by the {@code host} and {@code port} parameters, or the loopback address and
+     * {@code DEFAULT_PORT} if they are not given.
+     */
+    private static InetSocketAddress getServerAddress(Map<String, String> namedParameters) {
+        int port = DEFAULT_PORT;
+        String portParameter = namedParameters.get("port");
+        if (portParameter != null) {
+            try {
+                port = Integer.parseInt(portParameter);
+            } catch (NumberFormatException nfe) {
+                logger.warning("Invalid port " + portParameter + ". Using default port " + DEFAULT_PORT + ".");
+            }
+        }
+
+        String host = namedParameters.get("host");
+        return host == null
+                ? new InetSocketAddress(InetAddress.getLoopbackAddress(), port)
+                : new InetSocketAddress(host, port);
+    }
+
+    /**
+     * Returns the parameters in {@code args} that are given as {@code --name=value}, by name.
+     */
+    private static Map<String, String> parseNamedParameters(String[] args) {
+        Map<String, String> namedParameters = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (!arg.startsWith("--") || separator < 0) {
+                logger.warning("Ignoring parameter " + arg + ", which is not given as --name=value");
+                continue;
+            }
+            namedParameters.put(arg.substring(2, separator), arg.substring(separator + 1));
+        }
+        return namedParameters;
+    }
+
+    public static void main(String[] args) {
+        try {
+            new HeadlessApp().start(parseNamedParameters(args));
+        } catch (IOException e) {
+            logger.severe("Failed to start the server : " + StringUtil.getDetails(e));
+            System.exit(1);
+        }
+    }
+}
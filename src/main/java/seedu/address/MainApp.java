@@ -1,8 +1,10 @@
 package seedu.address;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -11,6 +13,7 @@ import javafx.application.Application;
 import javafx.application.Platform;
 import javafx.stage.Stage;
 import seedu.address.commons.core.Config;
+import seedu.address.commons.core.DispatchOn;
 import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
@@ -27,7 +30,10 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.MappedAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -38,6 +44,7 @@ import seedu.address.ui.UiManager;
 /**
  * The main entry point to the application.
  */
+@DispatchOn(EventsCenter.Dispatcher.UI)
 public class MainApp extends Application {
 
     public static final Version VERSION = new Version(0, 6, 0, true);
@@ -57,31 +64,84 @@ public class MainApp extends Application {
         logger.info("============================[ Initializing One Life Application ]===========================");
         super.init();
 
-        AppParameters appParameters = AppParameters.parse(getParameters());
+        initComponents(AppParameters.parse(getParameters()));
+
+        logic = new LogicManager(model);
+        logic.loadInitialData();
+
+        ui = new UiManager(logic, config, userPrefs);
+
+        initEventsCenter();
+    }
+
+    /**
+     * Initializes the config, user prefs, storage and model of the app, which do not need the JavaFX toolkit.
+     */
+    protected void initComponents(AppParameters appParameters) {
         config = initConfig(appParameters.getConfigPath());
+        if (config.isAsyncEventDispatch()) {
+            EventsCenter.enableAsyncDispatch();
+        }
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new XmlAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         initLogging(config);
 
         model = initModelManager(storage, userPrefs);
+    }
 
-        logic = new LogicManager(model);
+    /**
+     * Returns the {@code AddressBookStorage} for the address book format in {@code userPrefs}.
+     * If a binary format is chosen but there is only an xml address book, the xml address book is converted first.
+     */
+    private AddressBookStorage initAddressBookStorage(UserPrefs userPrefs) {
+        Path xmlFilePath = userPrefs.getAddressBookFilePath();
+        AddressBookStorage xmlAddressBookStorage = new JournaledAddressBookStorage(
+                new XmlAddressBookStorage(xmlFilePath));
+        if (userPrefs.getAddressBookFormat() == UserPrefs.AddressBookFormat.XML) {
+            return xmlAddressBookStorage;
+        }
 
-        ui = new UiManager(logic, config, userPrefs);
+        Path binaryFilePath = BinaryAddressBookStorage.getBinaryFilePath(xmlFilePath);
+        BinaryAddressBookStorage binaryAddressBookStorage =
+                userPrefs.getAddressBookFormat() == UserPrefs.AddressBookFormat.MAPPED
+                ? new MappedAddressBookStorage(binaryFilePath)
+                : new BinaryAddressBookStorage(binaryFilePath);
+        if (!Files.exists(binaryFilePath) && Files.exists(xmlFilePath)) {
+            try {
+                BinaryAddressBookStorage.convert(xmlAddressBookStorage, binaryAddressBookStorage);
+            } catch (DataConversionException | IOException e) {
+                logger.warning("Failed to convert " + xmlFilePath + " to the binary format : "
+                        + StringUtil.getDetails(e));
+            }
+        }
+        return new JournaledAddressBookStorage(binaryAddressBookStorage);
+    }
 
-        initEventsCenter();
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}.
+     * If the address book is stored in the {@code MAPPED} format, it is read in the background and the model starts
+     * with an empty address book, which {@code Logic#loadInitialData()} replaces once the address book has been read.
+     */
+    private Model initModelManager(Storage storage, UserPrefs userPrefs) {
+        if (userPrefs.getAddressBookFormat() != UserPrefs.AddressBookFormat.MAPPED) {
+            return new ModelManager(readInitialData(storage), userPrefs);
+        }
+
+        CompletableFuture<ReadOnlyAddressBook> initialData = CompletableFuture.supplyAsync(() ->
+                readInitialData(storage));
+        return new ModelManager(initialData, userPrefs);
     }
 
     /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * Returns the data from {@code storage}'s address book. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
      */
-    private Model initModelManager(Storage storage, UserPrefs userPrefs) {
+    private ReadOnlyAddressBook readInitialData(Storage storage) {
         Optional<ReadOnlyAddressBook> addressBookOptional;
         ReadOnlyAddressBook initialData;
         try {
@@ -97,8 +157,7 @@ public class MainApp extends Application {
             logger.warning("Problem while reading from the file. Will be starting with an empty database");
             initialData = new AddressBook();
         }
-
-        return new ModelManager(initialData, userPrefs);
+        return initialData;
     }
 
     private void initLogging(Config config) {
@@ -187,6 +246,7 @@ public class MainApp extends Application {
     public void stop() {
         logger.info("============================ [ Stopping One Life Application ] =============================");
         ui.stop();
+        storage.flushAddressBook();
         try {
             storage.saveUserPrefs(userPrefs);
         } catch (IOException e) {
@@ -199,7 +259,8 @@ public class MainApp extends Application {
     @Subscribe
     public void handleExitAppRequestEvent(ExitAppRequestEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        stop();
+        // Commands are executed off the JavaFX thread, so the event may not be raised on it.
+        Platform.runLater(this::stop);
     }
 
     public static void main(String[] args) {
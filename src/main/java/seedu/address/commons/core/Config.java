@@ -16,6 +16,7 @@ public class Config {
     private String appTitle = "One Life App";
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean isAsyncEventDispatch = true;
 
     public String getAppTitle() {
         return appTitle;
@@ -41,6 +42,18 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns true if event handlers are called on the threads they declare rather than on the posting thread.
+     * @see EventsCenter#enableAsyncDispatch()
+     */
+    public boolean isAsyncEventDispatch() {
+        return isAsyncEventDispatch;
+    }
+
+    public void setAsyncEventDispatch(boolean isAsyncEventDispatch) {
+        this.isAsyncEventDispatch = isAsyncEventDispatch;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -54,12 +67,13 @@ public class Config {
 
         return Objects.equals(appTitle, o.appTitle)
                 && Objects.equals(logLevel, o.logLevel)
-                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, o.userPrefsFilePath)
+                && isAsyncEventDispatch == o.isAsyncEventDispatch;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(appTitle, logLevel, userPrefsFilePath);
+        return Objects.hash(appTitle, logLevel, userPrefsFilePath, isAsyncEventDispatch);
     }
 
     @Override
@@ -0,0 +1,19 @@
+package seedu.address.commons.core;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares the thread that the {@link EventsCenter} calls the event handling methods of a class on, once
+ * asynchronous dispatch is enabled.
+ * Handlers of classes without this annotation are called on the thread that posted the event.
+ */
+@Inherited
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface DispatchOn {
+    EventsCenter.Dispatcher value();
+}
@@ -0,0 +1,47 @@
+package seedu.address.commons.core;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The latencies of the dispatches of one type of event, from the moment an event is posted until a dispatcher has
+ * called all of its handlers of the event.
+ * Latencies may be recorded from several threads at once.
+ */
+public class EventDispatchStatistics {
+
+    private final LongAdder dispatchCount = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final LongAccumulator maxLatencyNanos = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records a dispatch that took {@code latencyNanos} nanoseconds.
+     */
+    public void record(long latencyNanos) {
+        dispatchCount.increment();
+        totalLatencyNanos.add(latencyNanos);
+        maxLatencyNanos.accumulate(latencyNanos);
+    }
+
+    public long getDispatchCount() {
+        return dispatchCount.sum();
+    }
+
+    /**
+     * Returns the mean latency of the recorded dispatches, or 0 if there are none.
+     */
+    public long getMeanLatencyNanos() {
+        long count = dispatchCount.sum();
+        return count == 0 ? 0 : totalLatencyNanos.sum() / count;
+    }
+
+    public long getMaxLatencyNanos() {
+        return maxLatencyNanos.get();
+    }
+
+    @Override
+    public String toString() {
+        return getDispatchCount() + " dispatches, mean " + getMeanLatencyNanos() / 1000 + " us, max "
+                + getMaxLatencyNanos() / 1000 + " us";
+    }
+}
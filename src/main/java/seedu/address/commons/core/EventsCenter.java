@@ -1,26 +1,61 @@
 package seedu.address.commons.core;
 
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.EventBus;
 
+import javafx.application.Platform;
 import seedu.address.commons.events.BaseEvent;
 
 /**
  * Manages the event dispatching of the app.
+ *
+ * By default, every handler is called on the thread that posted the event, before {@link #post(BaseEvent)} returns.
+ * Once asynchronous dispatch is enabled, the handlers of each {@link Dispatcher} are registered with an event bus of
+ * their own, and each event is posted to that bus on the dispatcher's thread, so a slow handler no longer holds up
+ * the thread that posted the event. The latency of every dispatch is recorded per type of event.
  */
 public class EventsCenter {
+
+    /**
+     * The threads that the handlers of an event can be called on.
+     */
+    public enum Dispatcher {
+        /** The thread that posted the event, before the event is posted to any other dispatcher */
+        POSTER,
+        /** The JavaFX application thread, in the order the events were posted */
+        UI,
+        /** A pool of background threads, in no particular order */
+        BACKGROUND
+    }
+
     private static final Logger logger = LogsCenter.getLogger(EventsCenter.class);
     private static EventsCenter instance;
-    private final EventBus eventBus;
+    private static boolean isAsyncDispatchEnabled;
+
+    private final boolean isAsyncDispatch;
+    private final AtomicReferenceArray<DispatchQueue> dispatchQueues =
+            new AtomicReferenceArray<>(Dispatcher.values().length);
+    private final Map<Class<? extends BaseEvent>, EventDispatchStatistics> dispatchStatistics =
+            new ConcurrentHashMap<>();
 
-    private EventsCenter() {
-        eventBus = new EventBus();
+    /**
+     * Creates an events center that calls every handler on the posting thread, or, if {@code isAsyncDispatch}, on
+     * the thread declared by the {@link DispatchOn} annotation of the class of the handler.
+     */
+    EventsCenter(boolean isAsyncDispatch) {
+        this.isAsyncDispatch = isAsyncDispatch;
     }
 
     public static EventsCenter getInstance() {
         if (instance == null) {
-            instance = new EventsCenter();
+            instance = new EventsCenter(isAsyncDispatchEnabled);
         }
         return instance;
     }
@@ -29,8 +64,38 @@ public class EventsCenter {
         instance = null;
     }
 
+    /**
+     * Makes the events center call the handlers of each class on the thread declared by its {@link DispatchOn}
+     * annotation. Must be called before the events center is first used, as an events center that is already in use
+     * keeps calling every handler on the thread that posts the event.
+     */
+    public static void enableAsyncDispatch() {
+        if (instance != null && !instance.isAsyncDispatch) {
+            logger.warning("Asynchronous dispatch enabled after the events center was first used");
+        }
+        isAsyncDispatchEnabled = true;
+    }
+
     public void registerHandler(Object handler) {
-        eventBus.register(handler);
+        getDispatchQueue(getDispatcher(handler)).eventBus.register(handler);
+    }
+
+    /**
+     * Stops calling the handlers of {@code handler}, which must have been registered with this events center.
+     */
+    public void unregisterHandler(Object handler) {
+        getDispatchQueue(getDispatcher(handler)).eventBus.unregister(handler);
+    }
+
+    /**
+     * Returns the dispatcher that the handlers of {@code handler} are called on.
+     */
+    private Dispatcher getDispatcher(Object handler) {
+        DispatchOn dispatchOn = handler.getClass().getAnnotation(DispatchOn.class);
+        if (isAsyncDispatch && dispatchOn != null) {
+            return dispatchOn.value();
+        }
+        return Dispatcher.POSTER;
     }
 
     /**
@@ -38,8 +103,72 @@ public class EventsCenter {
      */
     public <E extends BaseEvent> EventsCenter post(E event) {
         logger.info("------[Event Posted] " + event.getClass().getCanonicalName() + ": " + event.toString());
-        eventBus.post(event);
+        long postTime = System.nanoTime();
+        for (int i = 0; i < dispatchQueues.length(); i++) {
+            DispatchQueue dispatchQueue = dispatchQueues.get(i);
+            if (dispatchQueue != null) {
+                dispatchQueue.dispatch(event, postTime);
+            }
+        }
         return this;
     }
 
+    /**
+     * Returns the dispatch latencies recorded so far, by type of event.
+     */
+    public Map<Class<? extends BaseEvent>, EventDispatchStatistics> getDispatchStatistics() {
+        return Collections.unmodifiableMap(dispatchStatistics);
+    }
+
+    /**
+     * Returns the queue of {@code dispatcher}, creating it if no handler has been registered with it yet.
+     */
+    private synchronized DispatchQueue getDispatchQueue(Dispatcher dispatcher) {
+        DispatchQueue dispatchQueue = dispatchQueues.get(dispatcher.ordinal());
+        if (dispatchQueue == null) {
+            dispatchQueue = new DispatchQueue(dispatcher);
+            dispatchQueues.set(dispatcher.ordinal(), dispatchQueue);
+        }
+        return dispatchQueue;
+    }
+
+    private static Executor createExecutor(Dispatcher dispatcher) {
+        switch (dispatcher) {
+        case UI:
+            return Platform::runLater;
+        case BACKGROUND:
+            return Executors.newCachedThreadPool(runnable -> {
+                Thread thread = new Thread(runnable, "Event dispatcher");
+                thread.setDaemon(true);
+                return thread;
+            });
+        default:
+            return Runnable::run;
+        }
+    }
+
+    /**
+     * The handlers registered with a dispatcher, and the executor that they are called on.
+     */
+    private class DispatchQueue {
+        private final EventBus eventBus;
+        private final Executor executor;
+
+        DispatchQueue(Dispatcher dispatcher) {
+            eventBus = new EventBus(dispatcher.name());
+            executor = createExecutor(dispatcher);
+        }
+
+        /**
+         * Posts {@code event} to the handlers of this queue on its executor, and records the time from
+         * {@code postTime} until all of them have been called.
+         */
+        void dispatch(BaseEvent event, long postTime) {
+            executor.execute(() -> {
+                eventBus.post(event);
+                dispatchStatistics.computeIfAbsent(event.getClass(), unused -> new EventDispatchStatistics())
+                        .record(System.nanoTime() - postTime);
+            });
+        }
+    }
 }
@@ -0,0 +1,78 @@
+package seedu.address.commons.core;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of non-negative values, such as latencies or byte counts, in buckets whose bounds are powers of two.
+ * Values may be recorded from several threads at once without locking. Percentiles are reported as the upper bound
+ * of the bucket they fall in, so they are at most twice the exact percentile.
+ */
+public class Histogram {
+    private static final int BUCKET_COUNT = Long.SIZE;
+
+    /** The count of values in each bucket, where bucket {@code i} holds the values that are {@code i} bits long */
+    private final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * Records {@code value}. Negative values are recorded as 0.
+     */
+    public void record(long value) {
+        long recordedValue = Math.max(value, 0);
+        bucketCounts.incrementAndGet(Long.SIZE - Long.numberOfLeadingZeros(recordedValue));
+        count.increment();
+        total.add(recordedValue);
+        max.accumulate(recordedValue);
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the mean of the recorded values, or 0 if there are none.
+     */
+    public long getMean() {
+        long recordedCount = count.sum();
+        return recordedCount == 0 ? 0 : total.sum() / recordedCount;
+    }
+
+    public long getMax() {
+        return max.get();
+    }
+
+    /**
+     * Returns a value that at least {@code percentile} percent of the recorded values are at most, or 0 if there are
+     * no recorded values.
+     */
+    public long getPercentile(double percentile) {
+        assert percentile >= 0 && percentile <= 100;
+        long recordedCount = 0;
+        long[] counts = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = bucketCounts.get(i);
+            recordedCount += counts[i];
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100 * recordedCount));
+        long countSoFar = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            countSoFar += counts[i];
+            if (countSoFar >= rank) {
+                return Math.min(getUpperBound(i), getMax());
+            }
+        }
+        return 0;
+    }
+
+    /**
+     * Returns the largest value in bucket {@code bucket}.
+     */
+    private static long getUpperBound(int bucket) {
+        return bucket == Long.SIZE - 1 ? Long.MAX_VALUE : (1L << bucket) - 1;
+    }
+}
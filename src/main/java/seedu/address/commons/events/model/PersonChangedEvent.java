@@ -1,21 +1,57 @@
 package seedu.address.commons.events.model;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+
 import seedu.address.commons.events.BaseEvent;
+import seedu.address.model.person.Nric;
 import seedu.address.model.person.Person;
 
-/** Indicates the person in the model has changed */
+/**
+ * Indicates that persons in the model have been added, removed or replaced.
+ * Only the persons that have changed are listed, so that subscribers only need to update what shows them.
+ */
 public class PersonChangedEvent extends BaseEvent {
 
-    public final Person editedPerson;
-    public final Person originalPerson;
+    /** The NRICs of the persons that have been added */
+    public final Set<Nric> addedNrics;
+    /** The NRICs of the persons that have been removed */
+    public final Set<Nric> removedNrics;
+    /** The new version of each person that has been replaced, by the NRIC that the person had before */
+    public final Map<Nric, Person> replacedPersons;
+
+    public PersonChangedEvent(Set<Nric> addedNrics, Set<Nric> removedNrics, Map<Nric, Person> replacedPersons) {
+        requireAllNonNull(addedNrics, removedNrics, replacedPersons);
+        this.addedNrics = Collections.unmodifiableSet(addedNrics);
+        this.removedNrics = Collections.unmodifiableSet(removedNrics);
+        this.replacedPersons = Collections.unmodifiableMap(replacedPersons);
+    }
+
+    /**
+     * Returns an event for the replacement of {@code originalPerson} by {@code editedPerson}.
+     */
+    public static PersonChangedEvent replaced(Person originalPerson, Person editedPerson) {
+        requireAllNonNull(originalPerson, editedPerson);
+        return new PersonChangedEvent(Collections.emptySet(), Collections.emptySet(),
+                Collections.singletonMap(originalPerson.getNric(), editedPerson));
+    }
 
-    public PersonChangedEvent(Person originalPerson, Person editedPerson) {
-        this.originalPerson = originalPerson;
-        this.editedPerson = editedPerson;
+    /**
+     * Returns an event for the removal of {@code removedPerson}.
+     */
+    public static PersonChangedEvent removed(Person removedPerson) {
+        requireNonNull(removedPerson);
+        return new PersonChangedEvent(Collections.emptySet(), Collections.singleton(removedPerson.getNric()),
+                Collections.emptyMap());
     }
 
     @Override
     public String toString() {
-        return "Person data modified: " + editedPerson;
+        return "Persons changed: " + addedNrics.size() + " added, " + removedNrics.size() + " removed, "
+                + replacedPersons.size() + " replaced";
     }
 }
@@ -54,11 +54,22 @@ public class StringUtil {
         requireNonNull(sentence);
         requireNonNull(query);
 
+        return sentence.toLowerCase().contains(normalizeQuery(query));
+    }
+
+    /**
+     * Returns {@code query} trimmed and lower-cased, in the form that {@link #containsQueryIgnoreCase(String, String)}
+     * looks for in a lower-cased sentence.
+     * @param query cannot be null, cannot be empty
+     */
+    public static String normalizeQuery(String query) {
+        requireNonNull(query);
+
         String preppedQuery = query.trim();
         checkArgument(!preppedQuery.isEmpty(), "Query parameter cannot be empty");
         checkArgument(preppedQuery.split("\\s+").length != 0, "Query parameter should not be null");
 
-        return sentence.toLowerCase().contains(preppedQuery.toLowerCase());
+        return preppedQuery.toLowerCase();
     }
 
     /**
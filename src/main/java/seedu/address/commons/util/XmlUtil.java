@@ -1,21 +1,45 @@
 package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import javax.xml.bind.JAXBContext;
+import javax.xml.bind.JAXBElement;
 import javax.xml.bind.JAXBException;
+import javax.xml.bind.MarshalException;
 import javax.xml.bind.Marshaller;
 import javax.xml.bind.Unmarshaller;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import javax.xml.stream.XMLStreamWriter;
 
 /**
  * Helps with reading from and writing to XML files.
  */
 public class XmlUtil {
 
+    private static final String CHARSET = "UTF-8";
+
+    /**
+     * Creating a {@code JAXBContext} is expensive, so one is created per class and reused.
+     * Contexts are thread-safe, unlike the marshallers and unmarshallers created from them.
+     */
+    private static final ConcurrentMap<Class<?>, JAXBContext> contexts = new ConcurrentHashMap<>();
+
     /**
      * Returns the xml data in the file as an object of the specified type.
      *
@@ -37,8 +61,7 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(classToConvert);
-        Unmarshaller um = context.createUnmarshaller();
+        Unmarshaller um = getContext(classToConvert).createUnmarshaller();
         return ((T) um.unmarshal(file.toFile()));
     }
 
@@ -60,11 +83,164 @@ public class XmlUtil {
             throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
         }
 
-        JAXBContext context = JAXBContext.newInstance(data.getClass());
-        Marshaller m = context.createMarshaller();
+        Marshaller m = getContext(data.getClass()).createMarshaller();
         m.setProperty(Marshaller.JAXB_FORMATTED_OUTPUT, true);
 
         m.marshal(data, file.toFile());
     }
 
+    /**
+     * Reads the elements named {@code elementName} directly under the root element of the xml file one at a time,
+     * and passes each of them to {@code handler} as an object of the specified type.
+     * Only one element is held in memory at a time, so large files can be read without building the whole object
+     * graph first. Other elements under the root element are ignored.
+     *
+     * @param file            Points to a valid xml file. Cannot be null.
+     * @param rootElementName The expected name of the root element. Cannot be null.
+     * @param elementName     The name of the elements to read. Cannot be null.
+     * @param elementClass    The class corresponding to the elements. Cannot be null.
+     * @throws FileNotFoundException Thrown if the file is missing.
+     * @throws IOException           Thrown if there is an error reading the file.
+     * @throws JAXBException         Thrown if the file is empty or does not have the correct format.
+     */
+    public static <T, E extends Exception> void readElementsFromFile(Path file, String rootElementName,
+            String elementName, Class<T> elementClass, ElementHandler<? super T, E> handler)
+            throws IOException, JAXBException, E {
+
+        requireAllNonNull(file, rootElementName, elementName, elementClass, handler);
+
+        if (!FileUtil.isFileExists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        Unmarshaller um = getContext(elementClass).createUnmarshaller();
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(file))) {
+            XMLStreamReader reader = XMLInputFactory.newInstance().createXMLStreamReader(in);
+            try {
+                reader.nextTag();
+                if (!reader.getLocalName().equals(rootElementName)) {
+                    throw new JAXBException("Unexpected root element " + reader.getLocalName() + " in " + file);
+                }
+                reader.next();
+                skipToNextTag(reader);
+                while (reader.isStartElement()) {
+                    if (reader.getLocalName().equals(elementName)) {
+                        // unmarshalling leaves the reader right after the end of the element
+                        handler.handle(um.unmarshal(reader, elementClass).getValue());
+                    } else {
+                        skipElement(reader);
+                    }
+                    skipToNextTag(reader);
+                }
+            } finally {
+                reader.close();
+            }
+        } catch (XMLStreamException e) {
+            throw new JAXBException("Failed to read " + file, e);
+        }
+    }
+
+    /**
+     * Saves {@code elements} in the file in xml format, as elements named {@code elementName} under a root element
+     * named {@code rootElementName}. The elements are converted and written one at a time.
+     *
+     * @param file Points to a valid xml file. Cannot be null.
+     * @throws FileNotFoundException Thrown if the file is missing.
+     * @throws IOException           Thrown if there is an error writing to the file, including one that the xml
+     *                               writers report wrapped in their own exceptions.
+     * @throws JAXBException         Thrown if there is an error during converting the elements into xml.
+     */
+    public static <T> void saveElementsToFile(Path file, String rootElementName, String elementName,
+            Class<T> elementClass, Iterable<? extends T> elements) throws IOException, JAXBException {
+
+        requireAllNonNull(file, rootElementName, elementName, elementClass, elements);
+
+        if (!Files.exists(file)) {
+            throw new FileNotFoundException("File not found : " + file.toAbsolutePath());
+        }
+
+        Marshaller m = getContext(elementClass).createMarshaller();
+        m.setProperty(Marshaller.JAXB_FRAGMENT, true);
+        QName elementQName = new QName(elementName);
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file))) {
+            XMLStreamWriter writer = XMLOutputFactory.newInstance().createXMLStreamWriter(out, CHARSET);
+            writer.writeStartDocument(CHARSET, "1.0");
+            writer.writeCharacters("\n");
+            writer.writeStartElement(rootElementName);
+            for (T element : elements) {
+                writer.writeCharacters("\n    ");
+                m.marshal(new JAXBElement<>(elementQName, elementClass, element), writer);
+            }
+            writer.writeCharacters("\n");
+            writer.writeEndElement();
+            writer.writeEndDocument();
+            writer.close();
+        } catch (XMLStreamException e) {
+            rethrowIoExceptionCause(e);
+            throw new JAXBException("Failed to write " + file, e);
+        } catch (MarshalException e) {
+            rethrowIoExceptionCause(e);
+            throw e;
+        }
+    }
+
+    /**
+     * Throws the {@code IOException} that caused {@code e}, if there is one.
+     * The xml writers report the failures of the stream they write to wrapped in their own exceptions.
+     */
+    private static void rethrowIoExceptionCause(Exception e) throws IOException {
+        for (Throwable cause = e.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+        }
+    }
+
+    /**
+     * Returns the {@code JAXBContext} for {@code type}, creating it on first use.
+     */
+    private static JAXBContext getContext(Class<?> type) throws JAXBException {
+        JAXBContext context = contexts.get(type);
+        if (context == null) {
+            context = JAXBContext.newInstance(type);
+            JAXBContext existingContext = contexts.putIfAbsent(type, context);
+            if (existingContext != null) {
+                context = existingContext;
+            }
+        }
+        return context;
+    }
+
+    /**
+     * Advances {@code reader} past text and comments to the next start or end tag, if it is not at one already.
+     */
+    private static void skipToNextTag(XMLStreamReader reader) throws XMLStreamException {
+        while (!reader.isStartElement() && !reader.isEndElement() && reader.hasNext()) {
+            reader.next();
+        }
+    }
+
+    /**
+     * Advances {@code reader} from the start of an element to right after the end of the element.
+     */
+    private static void skipElement(XMLStreamReader reader) throws XMLStreamException {
+        int depth = 0;
+        do {
+            if (reader.isStartElement()) {
+                depth++;
+            } else if (reader.isEndElement()) {
+                depth--;
+            }
+            reader.next();
+        } while (depth > 0);
+    }
+
+    /**
+     * Handles the elements read by {@link #readElementsFromFile(Path, String, String, Class, ElementHandler)}.
+     */
+    @FunctionalInterface
+    public interface ElementHandler<T, E extends Exception> {
+        void handle(T element) throws E;
+    }
+
 }
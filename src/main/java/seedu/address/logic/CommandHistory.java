@@ -7,6 +7,7 @@ import java.util.List;
 
 /**
  * Stores the history of commands executed.
+ * The history is added to on the command thread, but may be read from any thread.
  */
 public class CommandHistory {
     private LinkedList<String> userInputHistory;
@@ -22,7 +23,7 @@ public class CommandHistory {
     /**
      * Appends {@code userInput} to the list of user input entered.
      */
-    public void add(String userInput) {
+    public synchronized void add(String userInput) {
         requireNonNull(userInput);
         userInputHistory.add(userInput);
     }
@@ -30,7 +31,7 @@ public class CommandHistory {
     /**
      * Returns a defensive copy of {@code userInputHistory}.
      */
-    public List<String> getHistory() {
+    public synchronized List<String> getHistory() {
         return new LinkedList<>(userInputHistory);
     }
 
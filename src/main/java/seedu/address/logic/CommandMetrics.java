@@ -0,0 +1,146 @@
+package seedu.address.logic;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import seedu.address.commons.events.BaseEvent;
+import seedu.address.commons.events.model.AddressBookChangedEvent;
+
+/**
+ * Measures the executions of commands and keeps their {@link CommandStatistics} by command word.
+ *
+ * An execution is measured from {@link #startExecution()} to {@link #finishExecution(String, boolean)} on the thread
+ * that executes the command. The events passed to {@link #recordEvent(BaseEvent)} on that thread in between are
+ * counted as raised by the command, and each {@link AddressBookChangedEvent} among them as a save that it asked for.
+ */
+public class CommandMetrics {
+    public static final long DEFAULT_REPORT_INTERVAL_MINUTES = 5;
+
+    private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+    private final Map<String, CommandStatistics> statistics = new ConcurrentHashMap<>();
+    private final ThreadLocal<Execution> currentExecution = new ThreadLocal<>();
+    private final long reportIntervalNanos;
+    private final AtomicLong nextReportTime;
+
+    public CommandMetrics() {
+        this(TimeUnit.MINUTES.toNanos(DEFAULT_REPORT_INTERVAL_MINUTES));
+    }
+
+    /**
+     * Creates metrics whose report is due every {@code reportIntervalNanos} nanoseconds.
+     */
+    public CommandMetrics(long reportIntervalNanos) {
+        this.reportIntervalNanos = reportIntervalNanos;
+        nextReportTime = new AtomicLong(System.nanoTime() + reportIntervalNanos);
+    }
+
+    /**
+     * Starts measuring the execution of a command on the current thread.
+     */
+    public void startExecution() {
+        currentExecution.set(new Execution(System.nanoTime(), getAllocatedBytesOfCurrentThread()));
+    }
+
+    /**
+     * Counts {@code event} as raised by the command being executed on the current thread, if any.
+     */
+    public void recordEvent(BaseEvent event) {
+        Execution execution = currentExecution.get();
+        if (execution == null) {
+            return;
+        }
+        execution.eventCount++;
+        if (event instanceof AddressBookChangedEvent) {
+            execution.saveCount++;
+        }
+    }
+
+    /**
+     * Finishes measuring the execution of a command on the current thread, and records it under
+     * {@code commandWord}.
+     */
+    public void finishExecution(String commandWord, boolean isFailure) {
+        Execution execution = currentExecution.get();
+        if (execution == null) {
+            return;
+        }
+        currentExecution.remove();
+
+        long wallTimeNanos = System.nanoTime() - execution.startTime;
+        long allocatedBytes = getAllocatedBytesOfCurrentThread();
+        if (allocatedBytes >= 0 && execution.startAllocatedBytes >= 0) {
+            allocatedBytes -= execution.startAllocatedBytes;
+        } else {
+            allocatedBytes = -1;
+        }
+        statistics.computeIfAbsent(commandWord, unused -> new CommandStatistics())
+                .record(wallTimeNanos, allocatedBytes, execution.eventCount, execution.saveCount, isFailure);
+    }
+
+    /**
+     * Returns the statistics recorded so far, by command word.
+     */
+    public Map<String, CommandStatistics> getStatistics() {
+        return Collections.unmodifiableMap(statistics);
+    }
+
+    /**
+     * Returns a report of the statistics recorded so far, with one line per command word in alphabetical order.
+     */
+    public String getReport() {
+        StringBuilder report = new StringBuilder();
+        new TreeMap<>(statistics).forEach((commandWord, commandStatistics) -> {
+            if (report.length() > 0) {
+                report.append("\n");
+            }
+            report.append(commandWord).append(": ").append(commandStatistics);
+        });
+        return report.toString();
+    }
+
+    /**
+     * Returns true if the report interval has passed since the report was last due. Only one of the threads calling
+     * this method at about the same time is told that the report is due.
+     */
+    public boolean isReportDue() {
+        long reportTime = nextReportTime.get();
+        long now = System.nanoTime();
+        return now - reportTime >= 0 && nextReportTime.compareAndSet(reportTime, now + reportIntervalNanos);
+    }
+
+    /**
+     * Returns the number of bytes allocated by the current thread so far, or -1 if the JVM does not measure it.
+     */
+    private static long getAllocatedBytesOfCurrentThread() {
+        if (!(THREAD_MX_BEAN instanceof com.sun.management.ThreadMXBean)) {
+            return -1;
+        }
+        com.sun.management.ThreadMXBean threadMxBean = (com.sun.management.ThreadMXBean) THREAD_MX_BEAN;
+        if (!threadMxBean.isThreadAllocatedMemorySupported() || !threadMxBean.isThreadAllocatedMemoryEnabled()) {
+            return -1;
+        }
+        return threadMxBean.getThreadAllocatedBytes(Thread.currentThread().getId());
+    }
+
+    /**
+     * The measurements of the command being executed on a thread.
+     */
+    private static class Execution {
+        private final long startTime;
+        private final long startAllocatedBytes;
+        private int eventCount;
+        private int saveCount;
+
+        Execution(long startTime, long startAllocatedBytes) {
+            this.startTime = startTime;
+            this.startAllocatedBytes = startAllocatedBytes;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package seedu.address.logic;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+import seedu.address.commons.core.Histogram;
+
+/**
+ * The cost of the executions of the commands with one command word: how long they took, how many bytes they
+ * allocated, how many events they raised and how many saves of the address book they asked for.
+ * Executions may be recorded from several threads at once.
+ */
+public class CommandStatistics {
+
+    private final Histogram wallTimeNanos = new Histogram();
+    private final Histogram allocatedBytes = new Histogram();
+    private final LongAdder failureCount = new LongAdder();
+    private final LongAdder eventCount = new LongAdder();
+    private final LongAdder saveCount = new LongAdder();
+
+    /**
+     * Records an execution that took {@code wallTimeNanos} nanoseconds, allocated {@code allocatedBytes} bytes,
+     * raised {@code eventCount} events and asked for {@code saveCount} saves of the address book.
+     * {@code allocatedBytes} is negative if the allocations of the executing thread cannot be measured.
+     */
+    public void record(long wallTimeNanos, long allocatedBytes, int eventCount, int saveCount, boolean isFailure) {
+        this.wallTimeNanos.record(wallTimeNanos);
+        if (allocatedBytes >= 0) {
+            this.allocatedBytes.record(allocatedBytes);
+        }
+        this.eventCount.add(eventCount);
+        this.saveCount.add(saveCount);
+        if (isFailure) {
+            failureCount.increment();
+        }
+    }
+
+    public Histogram getWallTimeNanos() {
+        return wallTimeNanos;
+    }
+
+    public Histogram getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    public long getExecutionCount() {
+        return wallTimeNanos.getCount();
+    }
+
+    public long getFailureCount() {
+        return failureCount.sum();
+    }
+
+    public long getEventCount() {
+        return eventCount.sum();
+    }
+
+    public long getSaveCount() {
+        return saveCount.sum();
+    }
+
+    @Override
+    public String toString() {
+        return getExecutionCount() + " run(s), " + getFailureCount() + " failed, "
+                + "p50 " + toMicros(wallTimeNanos.getPercentile(50)) + " us, "
+                + "p99 " + toMicros(wallTimeNanos.getPercentile(99)) + " us, "
+                + "max " + toMicros(wallTimeNanos.getMax()) + " us, "
+                + "mean " + allocatedBytes.getMean() / 1024 + " KB allocated, "
+                + getEventCount() + " event(s), " + getSaveCount() + " save(s)";
+    }
+
+    private static long toMicros(long nanos) {
+        return TimeUnit.NANOSECONDS.toMicros(nanos);
+    }
+}
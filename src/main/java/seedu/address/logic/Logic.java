@@ -1,5 +1,7 @@
 package seedu.address.logic;
 
+import java.util.concurrent.CompletableFuture;
+
 import javafx.collections.ObservableList;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -19,17 +21,46 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command on the command thread, after every command submitted before it, and returns its result.
+     * The returned future is completed on the JavaFX thread, after the displayed list of persons has been updated.
+     * @param commandText The command as entered by the user.
+     * @return the result of the command execution, or a {@code CommandException} or {@code ParseException} if the
+     *     command could not be executed.
+     */
+    CompletableFuture<CommandResult> executeAsync(String commandText);
+
+    /**
+     * Waits on the command thread for the initial data of the model to be loaded, and then displays it.
+     * Commands submitted afterwards are executed against the initial data.
+     */
+    CompletableFuture<Void> loadInitialData();
+
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns an unmodifiable view of the filtered list of persons as of the last command submitted with
+     * {@link #executeAsync(String)}, which is only ever changed on the JavaFX thread.
+     */
+    ObservableList<Person> getDisplayedPersonList();
+
     /** Returns the list of input entered by the user, encapsulated in a {@code ListElementPointer} object */
     ListElementPointer getHistorySnapshot();
 
     /**
      * Cancels the current command. If an intuitive command is currently executing, exit from the command.
      * Otherwise, it clears the command box text field.
+     * The command is cancelled on the command thread after the commands submitted before it.
      *
-     * @return a String feedback message that tells the user what has been cancelled
+     * @return a future completed on the JavaFX thread with a String feedback message that tells the user what has
+     *     been cancelled
+     */
+    CompletableFuture<String> cancelCommand();
+
+    /**
+     * Stops the command thread once the commands submitted so far have been executed, and stops receiving events.
+     * The logic must not be used afterwards. The model of the logic is left as it is.
      */
-    String cancelCommand();
+    void close();
 }
@@ -1,12 +1,26 @@
 package seedu.address.logic;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.Lock;
 import java.util.logging.Logger;
 
+import com.google.common.eventbus.Subscribe;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.ComponentManager;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.BaseEvent;
 import seedu.address.logic.commands.Command;
 import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.IntuitiveEntryCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.AddressBookParser;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -15,30 +29,74 @@ import seedu.address.model.person.Person;
 
 /**
  * The main LogicManager of the app.
+ *
+ * Commands submitted with {@link #executeAsync(String)} are executed one at a time, in the order they were
+ * submitted, on a single command thread, so that a slow command does not freeze the UI. The UI is only handed the
+ * final list of persons and the result of each command, on the UI thread.
+ *
+ * Each command is executed holding the lock of the database of the model: the read lock if the command only reads
+ * the database, so that the logic of another client of the database may execute such commands at the same time,
+ * and the write lock otherwise.
+ *
+ * The wall time, allocations, events and saves of every executed command are recorded in {@link CommandMetrics},
+ * which is shown by the {@code stats} command and written to the log every few minutes while commands are executed.
  */
 public class LogicManager extends ComponentManager implements Logic {
     public static final String MESSAGE_NON_INTUITIVE_CANCELLATION = "There is currently "
             + "no intuitive command that is executing. Command box cleared.";
     public static final String MESSAGE_INTUITIVE_CANCELLATION = "Intuitive command cancelled.";
 
+    /** The word that the executions of commands that could not be parsed are recorded under */
+    public static final String COMMAND_WORD_INVALID = "(invalid)";
+    /** The word that the executions of the steps of intuitive commands are recorded under */
+    public static final String COMMAND_WORD_INTUITIVE = "(intuitive)";
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final CommandHistory history;
     private final AddressBookParser addressBookParser;
+    private final ExecutorService commandExecutor;
+    private final Executor uiExecutor;
+    private final ObservableList<Person> displayedPersons;
+    private final CommandMetrics commandMetrics;
 
     public LogicManager(Model model) {
+        this(model, Platform::runLater);
+    }
+
+    /**
+     * Creates a LogicManager that hands the results of commands to the UI by running them on {@code uiExecutor}.
+     */
+    LogicManager(Model model, Executor uiExecutor) {
         this.model = model;
+        this.uiExecutor = uiExecutor;
         history = new CommandHistory();
-        addressBookParser = new AddressBookParser();
+        commandMetrics = new CommandMetrics();
+        addressBookParser = new AddressBookParser(commandMetrics);
+        commandExecutor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "command-executor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        model.getDatabaseLock().readLock().lock();
+        try {
+            displayedPersons = FXCollections.observableArrayList(model.getFilteredPersonList());
+        } finally {
+            model.getDatabaseLock().readLock().unlock();
+        }
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
+        model.awaitInitialData();
+        Command command = null;
+        boolean isFailure = true;
+        commandMetrics.startExecution();
         try {
-            Command command = addressBookParser.parseCommand(commandText);
-            CommandResult result = command.execute(model, history);
+            command = addressBookParser.parseCommand(commandText);
+            CommandResult result = executeLocked(command);
 
             //if after intuitive input, all inputs have been received, parse with full arguments
             if (!model.isIntuitiveMode() && model.areIntuitiveArgsAvailable()) {
@@ -48,12 +106,133 @@ public class LogicManager extends ComponentManager implements Logic {
                 String intuitiveArguments = model.retrieveIntuitiveArguments();
                 logger.fine("Retrieved Argument String: " + intuitiveArguments);
                 Command intuitiveCompletedCommand = addressBookParser.parseCommand(intuitiveArguments);
-                return intuitiveCompletedCommand.execute(model, history);
+                result = executeLocked(intuitiveCompletedCommand);
             }
 
+            isFailure = false;
             return result;
         } finally {
             history.add(commandText);
+            commandMetrics.finishExecution(getCommandWord(command, commandText), isFailure);
+            if (commandMetrics.isReportDue()) {
+                logger.info("Command statistics:\n" + commandMetrics.getReport());
+            }
+        }
+    }
+
+    /**
+     * Executes {@code command} holding the read lock of the database if it is read-only, or the write lock otherwise.
+     */
+    private CommandResult executeLocked(Command command) throws CommandException {
+        Lock lock = command.isReadOnly() ? model.getDatabaseLock().readLock() : model.getDatabaseLock().writeLock();
+        lock.lock();
+        try {
+            return command.execute(model, history);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the word that the execution of {@code command}, parsed from {@code commandText}, is recorded under.
+     * {@code command} is null if {@code commandText} could not be parsed.
+     */
+    private static String getCommandWord(Command command, String commandText) {
+        if (command == null) {
+            return COMMAND_WORD_INVALID;
+        }
+        if (command instanceof IntuitiveEntryCommand) {
+            return COMMAND_WORD_INTUITIVE;
+        }
+        return commandText.trim().split("\\s+", 2)[0];
+    }
+
+    /**
+     * Counts the events raised while a command is executed on this thread.
+     */
+    @Subscribe
+    public void handleEvent(BaseEvent event) {
+        commandMetrics.recordEvent(event);
+    }
+
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(String commandText) {
+        return submit(() -> execute(commandText));
+    }
+
+    @Override
+    public CompletableFuture<Void> loadInitialData() {
+        return submit(() -> {
+            model.awaitInitialData();
+            return null;
+        });
+    }
+
+    /**
+     * Runs {@code task} on the command thread after every task submitted before it. The returned future is
+     * completed with the outcome of {@code task} on the UI thread, once the displayed persons have been updated to
+     * the filtered persons of the model after {@code task}.
+     */
+    private <T> CompletableFuture<T> submit(Callable<T> task) {
+        CompletableFuture<T> future = new CompletableFuture<>();
+        commandExecutor.execute(() -> {
+            T result = null;
+            Throwable failure = null;
+            try {
+                result = task.call();
+            } catch (Throwable e) {
+                // errors are handed to the future too, which would otherwise never be completed
+                failure = e;
+            }
+
+            // copied on the command thread, which is the only thread that changes the filtered persons of the model
+            List<Person> filteredPersons;
+            model.getDatabaseLock().readLock().lock();
+            try {
+                filteredPersons = new ArrayList<>(model.getFilteredPersonList());
+            } finally {
+                model.getDatabaseLock().readLock().unlock();
+            }
+            T finalResult = result;
+            Throwable finalFailure = failure;
+            uiExecutor.execute(() -> {
+                updateDisplayedPersons(filteredPersons);
+                if (finalFailure == null) {
+                    future.complete(finalResult);
+                } else {
+                    future.completeExceptionally(finalFailure);
+                }
+            });
+        });
+        return future;
+    }
+
+    /**
+     * Updates the displayed persons to {@code persons}, only replacing the range of persons between the first and the
+     * last person that differ, so that the rows of the persons around them are left as they are.
+     */
+    private void updateDisplayedPersons(List<Person> persons) {
+        int start = 0;
+        while (start < persons.size() && start < displayedPersons.size()
+                && persons.get(start) == displayedPersons.get(start)) {
+            start++;
+        }
+        int end = persons.size();
+        int displayedEnd = displayedPersons.size();
+        while (end > start && displayedEnd > start && persons.get(end - 1) == displayedPersons.get(displayedEnd - 1)) {
+            end--;
+            displayedEnd--;
+        }
+
+        if (end - start == 1 && displayedEnd - start == 1) {
+            displayedPersons.set(start, persons.get(start));
+            return;
+        }
+        if (displayedEnd > start) {
+            displayedPersons.remove(start, displayedEnd);
+        }
+        if (end > start) {
+            displayedPersons.addAll(start, persons.subList(start, end));
         }
     }
 
@@ -62,13 +241,29 @@ public class LogicManager extends ComponentManager implements Logic {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public ObservableList<Person> getDisplayedPersonList() {
+        return FXCollections.unmodifiableObservableList(displayedPersons);
+    }
+
     @Override
     public ListElementPointer getHistorySnapshot() {
         return new ListElementPointer(history.getHistory());
     }
 
     @Override
-    public String cancelCommand() {
+    public CompletableFuture<String> cancelCommand() {
+        // the intuitive command is cancelled in order with the commands being executed
+        return submit(this::cancelIntuitiveCommand);
+    }
+
+    @Override
+    public void close() {
+        commandExecutor.shutdown();
+        eventsCenter.unregisterHandler(this);
+    }
+
+    private String cancelIntuitiveCommand() {
         if (!model.isIntuitiveMode()) {
             return MESSAGE_NON_INTUITIVE_CANCELLATION;
         }
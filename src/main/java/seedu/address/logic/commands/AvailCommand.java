@@ -6,15 +6,11 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_DATE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_END_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_START_TIME;
 
-import java.util.function.Predicate;
-
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.doctor.Doctor;
-import seedu.address.model.person.AppointmentManager;
 import seedu.address.model.person.Date;
-import seedu.address.model.person.Person;
 import seedu.address.model.person.Time;
 
 /**
@@ -75,20 +71,18 @@ public class AvailCommand extends Command {
             throw new CommandException(MESSAGE_INVALID_DATABASE);
         }
 
-        Predicate<Person> filterDoctorsOnly = person -> person instanceof Doctor;
-        Predicate<Person> filterAvailDoctor;
-
-        if (endTime != null) {
-            filterAvailDoctor = doctor -> !AppointmentManager.isAnyAppointmentOngoing(doctor.getAppointmentList(),
-                    date, startTime, endTime);
-        } else {
-            filterAvailDoctor = doctor -> !AppointmentManager.isAnyAppointmentOngoing(doctor.getAppointmentList(),
-                    date, startTime, endTime);
-        }
-        model.updateFilteredPersonList(filterDoctorsOnly.and(filterAvailDoctor));
+        // Each doctor is tested against its own appointments, so that the filtered list stays correct when a doctor
+        // is edited or the address book is undone while it is listed.
+        model.updateFilteredPersonList(person -> person instanceof Doctor
+                && !person.getAppointmentIndex().isClash(date, startTime, endTime));
         return new CommandResult(String.format(MESSAGE_SUCCESS, date + " " + startTime + " to " + endTime));
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
@@ -19,4 +19,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model, CommandHistory history) throws CommandException;
 
+    /**
+     * Returns true if the command does not change the database, so that it may be executed at the same time as other
+     * such commands. Changing which persons the model lists does not change the database.
+     */
+    public boolean isReadOnly() {
+        return false;
+    }
+
 }
@@ -10,6 +10,7 @@ import seedu.address.commons.core.index.Index;
 import seedu.address.logic.CommandHistory;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.MutableModel;
 import seedu.address.model.doctor.Doctor;
 import seedu.address.model.patient.MedicalRecord;
 import seedu.address.model.patient.Patient;
@@ -48,7 +49,16 @@ public class DeleteCommand extends Command {
         }
 
         Person personToDelete = lastShownList.get(targetIndex.getZeroBased());
+        model.transaction(mutableModel -> deletePersonAndAppointments(mutableModel, personToDelete));
+        model.commitAddressBook();
+        return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, personToDelete));
+    }
 
+    /**
+     * Deletes {@code personToDelete} from {@code model}, along with its appointments in the appointment lists of
+     * the other persons.
+     */
+    private static void deletePersonAndAppointments(MutableModel model, Person personToDelete) {
         if (personToDelete instanceof Patient) {
             for (Appointment appointment : personToDelete.getAppointmentList()) {
                 Nric doctorNric = appointment.getDoctorNric();
@@ -84,8 +94,6 @@ public class DeleteCommand extends Command {
         }
 
         model.deletePerson(personToDelete);
-        model.commitAddressBook();
-        return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, personToDelete));
     }
 
     @Override
@@ -22,4 +22,9 @@ public class HelpCommand extends Command {
         EventsCenter.getInstance().post(new ShowHelpRequestEvent());
         return new CommandResult(SHOWING_HELP_MESSAGE);
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
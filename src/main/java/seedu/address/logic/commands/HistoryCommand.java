@@ -30,4 +30,9 @@ public class HistoryCommand extends Command {
         return new CommandResult(String.format(MESSAGE_SUCCESS, String.join("\n", previousCommands)));
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
 }
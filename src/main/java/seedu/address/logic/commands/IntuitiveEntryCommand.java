@@ -45,4 +45,9 @@ public class IntuitiveEntryCommand extends Command {
         return new CommandResult(String.format(INPUT_ECHO, this.input) + nextInstruction
                 + String.format(GO_BACK_INSTRUCTION, GO_BACK_COMMAND));
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
@@ -161,8 +161,10 @@ public class ScheduleCommand extends Command {
         }
 
         // update both of the affected persons
-        model.updatePerson(personToEdit, editedPerson);
-        model.updatePerson(secondEditedPerson, secondEditedPerson);
+        model.transaction(mutableModel -> {
+            mutableModel.updatePerson(personToEdit, editedPerson);
+            mutableModel.updatePerson(secondEditedPerson, secondEditedPerson);
+        });
 
         model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
         model.commitAddressBook();
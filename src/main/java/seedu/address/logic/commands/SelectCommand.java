@@ -48,6 +48,11 @@ public class SelectCommand extends Command {
 
     }
 
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
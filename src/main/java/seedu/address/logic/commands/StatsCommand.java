@@ -0,0 +1,58 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import seedu.address.commons.core.EventDispatchStatistics;
+import seedu.address.commons.core.EventsCenter;
+import seedu.address.logic.CommandHistory;
+import seedu.address.logic.CommandMetrics;
+import seedu.address.model.Model;
+
+/**
+ * Shows the cost of the commands executed since the app was launched, by command word, and the latency of the
+ * handling of each type of event.
+ */
+public class StatsCommand extends Command {
+
+    public static final String COMMAND_WORD = "stats";
+    public static final String MESSAGE_SUCCESS = "Command statistics:\n%1$s\nEvent statistics:\n%2$s";
+    public static final String MESSAGE_NO_STATS = "No commands have been executed yet.";
+
+    private final CommandMetrics commandMetrics;
+
+    public StatsCommand(CommandMetrics commandMetrics) {
+        requireNonNull(commandMetrics);
+        this.commandMetrics = commandMetrics;
+    }
+
+    @Override
+    public CommandResult execute(Model model, CommandHistory history) {
+        String commandReport = commandMetrics.getReport();
+        if (commandReport.isEmpty()) {
+            return new CommandResult(MESSAGE_NO_STATS);
+        }
+
+        StringBuilder eventReport = new StringBuilder();
+        Map<String, EventDispatchStatistics> dispatchStatistics = new TreeMap<>();
+        EventsCenter.getInstance().getDispatchStatistics().forEach((eventClass, statistics) ->
+                dispatchStatistics.put(eventClass.getSimpleName(), statistics));
+        dispatchStatistics.forEach((eventName, statistics) ->
+                eventReport.append(eventName).append(": ").append(statistics).append("\n"));
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commandReport, eventReport.toString().trim()));
+    }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof StatsCommand // instanceof handles nulls
+                && commandMetrics == ((StatsCommand) other).commandMetrics);
+    }
+}
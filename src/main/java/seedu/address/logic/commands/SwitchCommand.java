@@ -41,4 +41,9 @@ public class SwitchCommand extends Command {
         new ListCommand().execute(model, history);
         return new CommandResult(MESSAGE_SUCCESS_FILTERED_LIST + this.role + "\n");
     }
+
+    @Override
+    public boolean isReadOnly() {
+        return true;
+    }
 }
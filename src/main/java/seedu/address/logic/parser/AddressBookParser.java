@@ -6,6 +6,7 @@ import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
+import seedu.address.logic.CommandMetrics;
 import seedu.address.logic.commands.AddCommand;
 import seedu.address.logic.commands.AvailCommand;
 import seedu.address.logic.commands.ClearCommand;
@@ -22,6 +23,7 @@ import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.RedoCommand;
 import seedu.address.logic.commands.ScheduleCommand;
 import seedu.address.logic.commands.SelectCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.SwitchCommand;
 import seedu.address.logic.commands.UndoCommand;
 import seedu.address.logic.commands.UpdateCommand;
@@ -32,15 +34,28 @@ import seedu.address.logic.parser.exceptions.ParseException;
  * Parses user input.
  */
 public class AddressBookParser {
+    /**
+     * Used for initial separation of command word and args.
+     */
+    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+
+    private final CommandMetrics commandMetrics;
+
     /**
      * Keeps track of whether the system is currently executing an Intuitive Prompt Command
      */
-    private static boolean isIntuitiveMode = false;
+    private boolean isIntuitiveMode = false;
+
+    public AddressBookParser() {
+        this(new CommandMetrics());
+    }
 
     /**
-     * Used for initial separation of command word and args.
+     * Creates a parser whose {@code stats} commands show {@code commandMetrics}.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+    public AddressBookParser(CommandMetrics commandMetrics) {
+        this.commandMetrics = commandMetrics;
+    }
 
     /**
      * Parses user input into command for execution.
@@ -117,6 +132,9 @@ public class AddressBookParser {
         case HistoryCommand.COMMAND_WORD:
             return new HistoryCommand();
 
+        case StatsCommand.COMMAND_WORD:
+            return new StatsCommand(commandMetrics);
+
         case ExitCommand.COMMAND_WORD:
             return new ExitCommand();
 
@@ -3,13 +3,20 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
+import seedu.address.model.person.Date;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Nric;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.person.PersonSearchIndex;
+import seedu.address.model.person.Time;
 import seedu.address.model.person.UniquePersonList;
 
 /**
@@ -20,6 +27,12 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList persons;
 
+    /** Built on the first availability query and kept in sync with {@code persons} from then on. */
+    private AppointmentCalendar appointmentCalendar;
+
+    /** Built on the first keyword search and kept in sync with {@code persons} from then on. */
+    private PersonSearchIndex searchIndex;
+
     /*
      * The 'unusual' code block below is an non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -49,6 +62,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        appointmentCalendar = null;
+        searchIndex = null;
     }
 
     /**
@@ -108,6 +123,33 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        if (appointmentCalendar != null) {
+            appointmentCalendar.add(p);
+        }
+        if (searchIndex != null) {
+            searchIndex.add(p);
+        }
+    }
+
+    /**
+     * Inserts a person into the address book at position {@code index} of the person list.
+     * The person must not already exist in the address book.
+     */
+    void addPerson(int index, Person p) {
+        persons.add(index, p);
+        if (appointmentCalendar != null) {
+            appointmentCalendar.add(p);
+        }
+        if (searchIndex != null) {
+            searchIndex.add(p);
+        }
+    }
+
+    /**
+     * Returns the position of {@code person} in the person list, or -1 if it is not in the address book.
+     */
+    int indexOfPerson(Person person) {
+        return persons.indexOf(person);
     }
 
     /**
@@ -119,6 +161,12 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        if (appointmentCalendar != null) {
+            appointmentCalendar.update(target, editedPerson);
+        }
+        if (searchIndex != null) {
+            searchIndex.update(target, editedPerson);
+        }
     }
 
     /**
@@ -127,6 +175,68 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        if (appointmentCalendar != null) {
+            appointmentCalendar.remove(key.getNric());
+        }
+        if (searchIndex != null) {
+            searchIndex.remove(key.getNric());
+        }
+    }
+
+    /**
+     * Removes every person in {@code keys} from this {@code AddressBook} at once.
+     * Every person must exist in the address book.
+     */
+    public void removePersons(Collection<Person> keys) {
+        persons.removeAll(keys);
+        for (Person key : keys) {
+            if (appointmentCalendar != null) {
+                appointmentCalendar.remove(key.getNric());
+            }
+            if (searchIndex != null) {
+                searchIndex.remove(key.getNric());
+            }
+        }
+    }
+
+    /**
+     * Returns the nrics of the doctors without any appointment on {@code date} that overlaps the period
+     * from {@code startTime} to {@code endTime}.
+     */
+    public Set<Nric> getAvailableDoctors(Date date, Time startTime, Time endTime) {
+        requireAllNonNull(date, startTime, endTime);
+        return getAppointmentCalendar().getAvailableDoctors(date, startTime, endTime);
+    }
+
+    /**
+     * Returns a predicate that gives the same results as {@code predicate}, but looks the matching persons up in
+     * an index of the attributes of the persons in this address book instead of searching every person.
+     */
+    public Predicate<Person> getIndexedPredicate(PersonContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return getSearchIndex().asIndexedPredicate(predicate);
+    }
+
+    /**
+     * Returns the appointment calendar, building it if there is none.
+     * Synchronized as several threads may query the address book at once while it is not being changed.
+     */
+    private synchronized AppointmentCalendar getAppointmentCalendar() {
+        if (appointmentCalendar == null) {
+            appointmentCalendar = new AppointmentCalendar(persons.asUnmodifiableDoctorList());
+        }
+        return appointmentCalendar;
+    }
+
+    /**
+     * Returns the search index, building it if there is none.
+     * Synchronized as several threads may query the address book at once while it is not being changed.
+     */
+    private synchronized PersonSearchIndex getSearchIndex() {
+        if (searchIndex == null) {
+            searchIndex = new PersonSearchIndex(persons.asUnmodifiableObservableList());
+        }
+        return searchIndex;
     }
 
     //// util methods
@@ -142,6 +252,20 @@ public class AddressBook implements ReadOnlyAddressBook {
         return persons.asUnmodifiableObservableList();
     }
 
+    /**
+     * Returns an unmodifiable view of the patients in this address book.
+     */
+    public ObservableList<Person> getPatientList() {
+        return persons.asUnmodifiablePatientList();
+    }
+
+    /**
+     * Returns an unmodifiable view of the doctors in this address book.
+     */
+    public ObservableList<Person> getDoctorList() {
+        return persons.asUnmodifiableDoctorList();
+    }
+
     @Override
     public boolean equals(Object other) {
         return other == this // short circuit if same object
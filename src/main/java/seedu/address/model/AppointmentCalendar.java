@@ -0,0 +1,130 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.doctor.Doctor;
+import seedu.address.model.person.Appointment;
+import seedu.address.model.person.AppointmentIndex;
+import seedu.address.model.person.Date;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Time;
+
+/**
+ * Indexes the busy intervals of every doctor by {@code (Date, doctor Nric)}.
+ * Answers "which doctors are busy during this period" by looking only at the doctors that have appointments
+ * on the requested date, instead of scanning the appointment history of every doctor.
+ */
+public class AppointmentCalendar {
+
+    private final Map<Date, Map<Nric, AppointmentIndex>> busyIntervalsByDate = new HashMap<>();
+    private final Map<Nric, Set<Date>> datesByDoctor = new HashMap<>();
+    private final Set<Nric> doctors = new HashSet<>();
+
+    public AppointmentCalendar() {}
+
+    /**
+     * Creates a calendar holding the appointments of the doctors in {@code persons}.
+     */
+    public AppointmentCalendar(List<Person> persons) {
+        requireNonNull(persons);
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Adds {@code person} and its appointments to the calendar. Does nothing if {@code person} is not a doctor.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        if (!(person instanceof Doctor)) {
+            return;
+        }
+        doctors.add(person.getNric());
+
+        Map<Date, List<Appointment>> appointmentsByDate = new HashMap<>();
+        for (Appointment appointment : person.getAppointmentList()) {
+            if (appointment.getDate() != null) {
+                appointmentsByDate.computeIfAbsent(appointment.getDate(), date -> new ArrayList<>()).add(appointment);
+            }
+        }
+        if (appointmentsByDate.isEmpty()) {
+            return;
+        }
+
+        Nric doctorNric = person.getNric();
+        appointmentsByDate.forEach((date, appointments) -> busyIntervalsByDate
+                .computeIfAbsent(date, unused -> new HashMap<>())
+                .put(doctorNric, new AppointmentIndex(appointments)));
+        datesByDoctor.put(doctorNric, new HashSet<>(appointmentsByDate.keySet()));
+    }
+
+    /**
+     * Removes the doctor with {@code nric} and all of its appointments from the calendar.
+     */
+    public void remove(Nric nric) {
+        requireNonNull(nric);
+        doctors.remove(nric);
+        Set<Date> dates = datesByDoctor.remove(nric);
+        if (dates == null) {
+            return;
+        }
+
+        for (Date date : dates) {
+            Map<Nric, AppointmentIndex> doctorsOnDate = busyIntervalsByDate.get(date);
+            doctorsOnDate.remove(nric);
+            if (doctorsOnDate.isEmpty()) {
+                busyIntervalsByDate.remove(date);
+            }
+        }
+    }
+
+    /**
+     * Replaces the appointments of the doctor with {@code target}'s nric with those of {@code editedPerson}.
+     */
+    public void update(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        remove(target.getNric());
+        add(editedPerson);
+    }
+
+    /**
+     * Returns the nrics of the doctors with an appointment on {@code date} that overlaps the closed interval
+     * from {@code startTime} to {@code endTime}.
+     */
+    public Set<Nric> getBusyDoctors(Date date, Time startTime, Time endTime) {
+        requireAllNonNull(date, startTime, endTime);
+        Map<Nric, AppointmentIndex> doctorsOnDate = busyIntervalsByDate.get(date);
+        if (doctorsOnDate == null) {
+            return Collections.emptySet();
+        }
+
+        Set<Nric> busyDoctors = new HashSet<>();
+        doctorsOnDate.forEach((nric, busyIntervals) -> {
+            if (busyIntervals.isClash(date, startTime, endTime)) {
+                busyDoctors.add(nric);
+            }
+        });
+        return busyDoctors;
+    }
+
+    /**
+     * Returns the nrics of the doctors in the calendar without an appointment on {@code date} that overlaps the
+     * closed interval from {@code startTime} to {@code endTime}.
+     * The returned set is an unmodifiable copy, which does not follow later changes to the calendar.
+     */
+    public Set<Nric> getAvailableDoctors(Date date, Time startTime, Time endTime) {
+        requireAllNonNull(date, startTime, endTime);
+        Set<Nric> availableDoctors = new HashSet<>(doctors);
+        availableDoctors.removeAll(getBusyDoctors(date, startTime, endTime));
+        return Collections.unmodifiableSet(availableDoctors);
+    }
+}
@@ -31,16 +31,17 @@ public class IntuitivePromptManager {
     public static final String SKIP_INSTRUCTION = "\n(Type %1$s to skip this field)";
     public static final String INTUITIVE_MODE_MESSAGE = "(You are currently in the intuitive %1$s command.)";
 
-    private static int currentArgIndex;
-    private static List<String> arguments;
-    private static ArgumentManager argumentManager;
-    private static boolean isIntuitiveMode;
-
     private static final Logger logger = LogsCenter.getLogger(UiManager.class);
 
     private static final String UNEXPECTED_SCENARIO_MESSAGE = "IntuitivePromptManager: "
             + "Unexpected scenario has occurred in switch-case block";
 
+    // kept per manager, as each client model of a database has an intuitive command of its own
+    private int currentArgIndex;
+    private List<String> arguments;
+    private ArgumentManager argumentManager;
+    private boolean isIntuitiveMode;
+
 
     public IntuitivePromptManager() {
         currentArgIndex = ArgumentManager.MIN_ARGUMENT_INDEX;
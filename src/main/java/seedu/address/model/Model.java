@@ -1,18 +1,22 @@
 package seedu.address.model;
 
-import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.person.Date;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Nric;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Time;
 
 /**
  * The API of the Model component.
  */
-public interface Model {
+public interface Model extends MutableModel {
     /** {@code Predicate} that always evaluate to true */
     Predicate<Person> PREDICATE_SHOW_ALL_PERSONS = unused -> true;
 
@@ -25,6 +29,12 @@ public interface Model {
     /** Returns a message that indicates the type of the current active database **/
     String getCurrentDatabase();
 
+    /**
+     * Waits for the address book that is being loaded for the model, if any, and replaces the empty address book
+     * with it. Does nothing if there is no such address book or it has already been put in place.
+     */
+    void awaitInitialData();
+
     /** Clears existing backing model and replaces with the provided new data. */
     void resetData(ReadOnlyAddressBook newData);
 
@@ -54,34 +64,49 @@ public interface Model {
 
 
     /**
-     * Returns an {@code Optional<Person>} that matches the given {@code nric}.
+     * Returns the nrics of the doctors who have no appointment on {@code date} overlapping the period
+     * from {@code startTime} to {@code endTime}.
+     */
+    Set<Nric> getAvailableDoctors(Date date, Time startTime, Time endTime);
+
+    /**
+     * Applies {@code mutations} to the database as a single change, so that the model is saved and the persons that
+     * have changed are announced once, after all of them have been applied.
+     * If {@code mutations} throws an exception, the database is left as it was before the transaction.
+     * The default implementation applies each mutation as it is made, without any of these guarantees.
      */
-    Optional<Person> getPerson(Nric nric);
+    default void transaction(Consumer<MutableModel> mutations) {
+        mutations.accept(this);
+    }
 
     /**
-     * Deletes the given person.
-     * The person must exist in the database.
+     * Returns the lock of the database, which is shared by every client model of the database.
+     * The methods of the model do not take the lock themselves. A command that only reads the database is executed
+     * holding the read lock, so that it runs alongside other such commands, and any other command holding the write
+     * lock.
      */
-    void deletePerson(Person target);
+    ReadWriteLock getDatabaseLock();
 
     /**
-     * Adds the given person.
-     * {@code person} must not already exist in the database.
+     * Returns a new model of the same database for another client of it, such as another terminal. The client model
+     * has a filtered person list, active database and intuitive command of its own, so that the persons listed to
+     * one client are not changed by the commands of another.
+     * Must not be called while holding the read lock of the database.
      */
-    void addPerson(Person person);
+    Model createClientModel();
 
     /**
-     * Replaces the given person {@code target} with {@code editedPerson}.
-     * {@code target} must exist in the database.
-     * The person identity of {@code editedPerson} must not be the same as another existing person in the database.
+     * Releases this client model once its client has gone, so that it no longer receives events or lists the persons
+     * of the database. The model must not be used afterwards.
      */
-    void updatePerson(Person target, Person editedPerson);
+    void close();
 
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
     /**
      * Updates the filter of the filtered person list to filter by the given {@code predicate}.
+     * A large list may be filtered on several threads, so {@code predicate} must be safe to test concurrently.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
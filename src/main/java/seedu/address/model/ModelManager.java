@@ -4,8 +4,14 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -24,24 +30,41 @@ import seedu.address.model.patient.MedicalRecord;
 import seedu.address.model.patient.Patient;
 import seedu.address.model.person.Appointment;
 import seedu.address.model.person.AppointmentManager;
+import seedu.address.model.person.Date;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Nric;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonContainsKeywordsPredicate;
+import seedu.address.model.person.Time;
 
 /**
  * Represents the in-memory model of the address book data.
+ *
+ * Every client model created with {@link #createClientModel()} shares the address book and the lock of the database
+ * of the model that it was created from, and has a filtered person list, active database and intuitive command of
+ * its own.
  */
 public class ModelManager extends ComponentManager implements Model {
     private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
     private static final String KEYWORD_ALL = "ALL";
 
     private final VersionedAddressBook versionedAddressBook;
+    private final ReadWriteLock databaseLock;
     private final FilteredList<Person> filteredPersons;
+    private final ObservableList<Person> unmodifiableFilteredPersons;
     private Predicate<Person> predicateShowRelevantPeople;
     private final IntuitivePromptManager intuitivePromptManager;
 
     private String activeRole;
 
+    /** The data that replaces the empty address book once it is loaded, or null if there is none to wait for */
+    private volatile CompletableFuture<? extends ReadOnlyAddressBook> pendingInitialData;
+
+    /** True while a transaction is being applied, during which no model change events are raised */
+    private boolean isInTransaction;
+    /** True if the transaction that is being applied has changed the database */
+    private boolean isTransactionModified;
+
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
@@ -55,66 +78,159 @@ public class ModelManager extends ComponentManager implements Model {
         predicateShowRelevantPeople = PREDICATE_SHOW_ALL_PERSONS;
         activeRole = KEYWORD_ALL;
 
-        versionedAddressBook = new VersionedAddressBook(addressBook);
+        versionedAddressBook = new VersionedAddressBook(addressBook, userPrefs.getHistoryDepth(),
+                userPrefs.getHistoryMode());
+        databaseLock = new ReentrantReadWriteLock();
+        filteredPersons =
+                new FilteredList<>(versionedAddressBook.getPersonList()).filtered(predicateShowRelevantPeople);
+        unmodifiableFilteredPersons = FXCollections.unmodifiableObservableList(filteredPersons);
+
+        intuitivePromptManager = new IntuitivePromptManager();
+    }
+
+    /**
+     * Initializes a client model of the database of {@code databaseModel}, which lists all persons.
+     */
+    private ModelManager(ModelManager databaseModel) {
+        super();
+        predicateShowRelevantPeople = PREDICATE_SHOW_ALL_PERSONS;
+        activeRole = KEYWORD_ALL;
+
+        versionedAddressBook = databaseModel.versionedAddressBook;
+        databaseLock = databaseModel.databaseLock;
         filteredPersons =
                 new FilteredList<>(versionedAddressBook.getPersonList()).filtered(predicateShowRelevantPeople);
+        unmodifiableFilteredPersons = FXCollections.unmodifiableObservableList(filteredPersons);
 
         intuitivePromptManager = new IntuitivePromptManager();
     }
 
+    /**
+     * Initializes a ModelManager with an empty address book that is replaced by {@code initialData} once it has been
+     * loaded, so that the model can be used to show the UI while the address book is still being read.
+     *
+     * @see #awaitInitialData()
+     */
+    public ModelManager(CompletableFuture<? extends ReadOnlyAddressBook> initialData, UserPrefs userPrefs) {
+        this(new AddressBook(), userPrefs);
+        requireNonNull(initialData);
+        pendingInitialData = initialData;
+    }
+
     public ModelManager() {
         this(new AddressBook(), new UserPrefs());
     }
 
+    /**
+     * {@inheritDoc}
+     * Takes the write lock of the database to replace the address book, so it must not be called while holding the
+     * read lock.
+     */
+    @Override
+    public void awaitInitialData() {
+        CompletableFuture<? extends ReadOnlyAddressBook> initialDataToAwait = pendingInitialData;
+        if (initialDataToAwait == null) {
+            return;
+        }
+        ReadOnlyAddressBook initialData = initialDataToAwait.join();
+
+        databaseLock.writeLock().lock();
+        try {
+            // another thread may have replaced the address book while this one was waiting for the lock
+            if (pendingInitialData == null) {
+                return;
+            }
+            pendingInitialData = null;
+            // The initial data is already in the storage, and is where the undo history starts.
+            indicatePersonsChanged(recordChanges(() -> versionedAddressBook.resetHistory(initialData)));
+        } finally {
+            databaseLock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public ReadWriteLock getDatabaseLock() {
+        return databaseLock;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The client model is not given the initial data to wait for, so the initial data of this model is awaited first.
+     */
+    @Override
+    public Model createClientModel() {
+        awaitInitialData();
+        // the filtered list of the client model listens to the person list, which must not change meanwhile
+        databaseLock.writeLock().lock();
+        try {
+            return new ModelManager(this);
+        } finally {
+            databaseLock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() {
+        eventsCenter.unregisterHandler(this);
+        // the filtered list only listens weakly to the person list, and stops doing so once it is no longer referenced
+        databaseLock.writeLock().lock();
+        try {
+            filteredPersons.setPredicate(unused -> false);
+        } finally {
+            databaseLock.writeLock().unlock();
+        }
+    }
+
     @Override
     public void changeDatabase(Predicate<Person> filer, String role) {
         this.predicateShowRelevantPeople = filer;
         this.activeRole = role;
         this.indicateDatabaseChanged();
-        this.indicatePersonChanged();
     }
 
     @Override
     public void clearActiveDatabase() {
         List<Person> toDelete = versionedAddressBook.getPersonList().stream()
                 .filter(predicateShowRelevantPeople).collect(Collectors.toList());
-        toDelete.stream().forEach(personToDelete -> {
-            if (personToDelete instanceof Patient) {
-                for (Appointment appointment : personToDelete.getAppointmentList()) {
-                    Nric doctorNric = appointment.getDoctorNric();
-                    Person affectedPersonToEdit = getPerson(doctorNric).get();
-                    ArrayList<Appointment> affectedAppointmentList = new ArrayList<>(affectedPersonToEdit
-                            .getAppointmentList());
-                    affectedAppointmentList = AppointmentManager
-                            .removeAppointmentsOfPatient(personToDelete.getNric(), affectedAppointmentList);
-                    Person affectedEditedPerson = new Doctor(
-                            affectedPersonToEdit.getName(), affectedPersonToEdit.getNric(),
-                            affectedPersonToEdit.getPhone(), affectedPersonToEdit.getEmail(),
-                            affectedPersonToEdit.getAddress(), affectedPersonToEdit.getTags(),
-                            affectedAppointmentList, ((Doctor) affectedPersonToEdit).getMedicalDepartment());
-                    updatePerson(affectedPersonToEdit, affectedEditedPerson);
-                }
-            } else if (personToDelete instanceof Doctor) {
-                for (Appointment appointment : personToDelete.getAppointmentList()) {
-                    Nric patientNric = appointment.getPatientNric();
-                    Person affectedPersonToEdit = getPerson(patientNric).get();
-                    ArrayList<Appointment> affectedAppointmentList = new ArrayList<>(affectedPersonToEdit
-                            .getAppointmentList());
-                    ArrayList<MedicalRecord> newMedicalRecordLibrary =
-                            new ArrayList<>(((Patient) affectedPersonToEdit).getMedicalRecordLibrary());
-                    affectedAppointmentList = AppointmentManager
-                            .removeAppointmentsOfDoctor(personToDelete.getNric(), affectedAppointmentList);
-                    Person affectedEditedPerson = new Patient(
-                            affectedPersonToEdit.getName(), affectedPersonToEdit.getNric(),
-                            affectedPersonToEdit.getPhone(), affectedPersonToEdit.getEmail(),
-                            affectedPersonToEdit.getAddress(), affectedPersonToEdit.getTags(),
-                            affectedAppointmentList, newMedicalRecordLibrary);
-                    updatePerson(affectedPersonToEdit, affectedEditedPerson);
+        Set<Nric> deletedNrics = toDelete.stream().map(Person::getNric).collect(Collectors.toSet());
+
+        // each remaining person with appointments with the deleted persons is only rewritten once
+        Set<Nric> affectedNrics = new HashSet<>();
+        for (Person personToDelete : toDelete) {
+            for (Appointment appointment : personToDelete.getAppointmentList()) {
+                if (personToDelete instanceof Patient) {
+                    affectedNrics.add(appointment.getDoctorNric());
+                } else if (personToDelete instanceof Doctor) {
+                    affectedNrics.add(appointment.getPatientNric());
                 }
             }
-            deletePerson(personToDelete);
+        }
+        affectedNrics.removeAll(deletedNrics);
+
+        transaction(unused -> {
+            for (Nric affectedNric : affectedNrics) {
+                getPerson(affectedNric).ifPresent(affectedPersonToEdit -> updatePerson(affectedPersonToEdit,
+                        withoutAppointmentsOf(affectedPersonToEdit, deletedNrics)));
+            }
+            deletePersons(toDelete);
         });
-        this.indicatePersonChanged();
+    }
+
+    /**
+     * Returns a copy of {@code person} without the appointments with any of the persons with {@code nrics}.
+     */
+    private static Person withoutAppointmentsOf(Person person, Set<Nric> nrics) {
+        ArrayList<Appointment> appointmentList =
+                AppointmentManager.removeAppointmentsOfAny(nrics, person.getAppointmentList());
+        if (person instanceof Doctor) {
+            return new Doctor(person.getName(), person.getNric(), person.getPhone(), person.getEmail(),
+                    person.getAddress(), person.getTags(), appointmentList,
+                    ((Doctor) person).getMedicalDepartment());
+        }
+        ArrayList<MedicalRecord> newMedicalRecordLibrary =
+                new ArrayList<>(((Patient) person).getMedicalRecordLibrary());
+        return new Patient(person.getName(), person.getNric(), person.getPhone(), person.getEmail(),
+                person.getAddress(), person.getTags(), appointmentList, newMedicalRecordLibrary);
     }
 
     @Override
@@ -124,9 +240,9 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void resetData(ReadOnlyAddressBook newData) {
-        versionedAddressBook.resetData(newData);
+        PersonListDelta changes = recordChanges(() -> versionedAddressBook.resetData(newData));
         indicateAddressBookChanged();
-        indicatePersonChanged();
+        indicatePersonsChanged(changes);
     }
 
     @Override
@@ -146,12 +262,31 @@ public class ModelManager extends ComponentManager implements Model {
 
     /** Raises an event to indicate the person data has changed */
     private void indicatePersonChanged(Person original, Person editedPerson) {
-        raise(new PersonChangedEvent(original, editedPerson));
+        raise(PersonChangedEvent.replaced(original, editedPerson));
     }
 
-    /** Raise an event to indicate the person has been removed or reset to previous version*/
-    private void indicatePersonChanged() {
-        raise(new PersonChangedEvent(null, null));
+    /** Raises an event to indicate the person has been removed */
+    private void indicatePersonRemoved(Person removedPerson) {
+        raise(PersonChangedEvent.removed(removedPerson));
+    }
+
+    /** Raises an event listing the persons changed by {@code changes}, e.g. after an undo */
+    private void indicatePersonsChanged(PersonListDelta changes) {
+        raise(changes.toPersonChangedEvent());
+    }
+
+    /**
+     * Runs {@code change} and returns the changes it made to the person list.
+     */
+    private PersonListDelta recordChanges(Runnable change) {
+        PersonListDelta changes;
+        versionedAddressBook.startRecordingChanges();
+        try {
+            change.run();
+        } finally {
+            changes = versionedAddressBook.stopRecordingChanges();
+        }
+        return changes;
     }
 
     @Override
@@ -184,17 +319,31 @@ public class ModelManager extends ComponentManager implements Model {
         return versionedAddressBook.getPerson(nric);
     }
 
+    @Override
+    public Set<Nric> getAvailableDoctors(Date date, Time startTime, Time endTime) {
+        requireAllNonNull(date, startTime, endTime);
+        return versionedAddressBook.getAvailableDoctors(date, startTime, endTime);
+    }
+
     @Override
     public void deletePerson(Person target) {
         versionedAddressBook.removePerson(target);
+        if (isInTransaction) {
+            isTransactionModified = true;
+            return;
+        }
         indicateAddressBookChanged();
-        indicatePersonChanged();
+        indicatePersonRemoved(target);
     }
 
     @Override
     public void addPerson(Person person) {
         versionedAddressBook.addPerson(person);
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        if (isInTransaction) {
+            isTransactionModified = true;
+            return;
+        }
         indicateAddressBookChanged();
     }
 
@@ -203,10 +352,60 @@ public class ModelManager extends ComponentManager implements Model {
         requireAllNonNull(target, editedPerson);
 
         versionedAddressBook.updatePerson(target, editedPerson);
+        if (isInTransaction) {
+            isTransactionModified = true;
+            return;
+        }
         indicateAddressBookChanged();
         indicatePersonChanged(target, editedPerson);
     }
 
+    /**
+     * Deletes all of {@code targets} with a single change to the person list, as part of the transaction that is
+     * being applied. Every person must exist in the database.
+     */
+    private void deletePersons(List<Person> targets) {
+        assert isInTransaction;
+        if (targets.isEmpty()) {
+            return;
+        }
+        versionedAddressBook.removePersons(targets);
+        isTransactionModified = true;
+    }
+
+    /**
+     * {@inheritDoc}
+     * The events of the changes are held back until all of them have been applied. A transaction that is started
+     * while another one is being applied becomes part of the outer transaction.
+     */
+    @Override
+    public void transaction(Consumer<MutableModel> mutations) {
+        requireNonNull(mutations);
+        if (isInTransaction) {
+            mutations.accept(this);
+            return;
+        }
+
+        isInTransaction = true;
+        isTransactionModified = false;
+        versionedAddressBook.startRecordingChanges();
+        try {
+            mutations.accept(this);
+        } catch (RuntimeException e) {
+            // reverts the changes made before the failure, so that none of the transaction is applied
+            versionedAddressBook.stopRecordingChanges().undo(versionedAddressBook);
+            throw e;
+        } finally {
+            isInTransaction = false;
+        }
+
+        PersonListDelta changes = versionedAddressBook.stopRecordingChanges();
+        if (isTransactionModified) {
+            indicateAddressBookChanged();
+            indicatePersonsChanged(changes);
+        }
+    }
+
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -215,13 +414,17 @@ public class ModelManager extends ComponentManager implements Model {
      */
     @Override
     public ObservableList<Person> getFilteredPersonList() {
-        return FXCollections.unmodifiableObservableList(filteredPersons);
+        return unmodifiableFilteredPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(this.predicateShowRelevantPeople.and(predicate));
+        if (predicate instanceof PersonContainsKeywordsPredicate) {
+            predicate = versionedAddressBook.getIndexedPredicate((PersonContainsKeywordsPredicate) predicate);
+        }
+        filteredPersons.setPredicate(PersonListFilter.precompute(versionedAddressBook.getPersonList(),
+                this.predicateShowRelevantPeople.and(predicate)));
     }
 
     //=========== Undo/Redo =================================================================================
@@ -238,16 +441,16 @@ public class ModelManager extends ComponentManager implements Model {
 
     @Override
     public void undoAddressBook() {
-        versionedAddressBook.undo();
+        PersonListDelta changes = recordChanges(versionedAddressBook::undo);
         indicateAddressBookChanged();
-        indicatePersonChanged();
+        indicatePersonsChanged(changes);
     }
 
     @Override
     public void redoAddressBook() {
-        versionedAddressBook.redo();
+        PersonListDelta changes = recordChanges(versionedAddressBook::redo);
         indicateAddressBookChanged();
-        indicatePersonChanged();
+        indicatePersonsChanged(changes);
     }
 
     @Override
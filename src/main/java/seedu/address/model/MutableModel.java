@@ -0,0 +1,36 @@
+package seedu.address.model;
+
+import java.util.Optional;
+
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+
+/**
+ * The operations of the Model component that look up and change the persons in the database.
+ */
+public interface MutableModel {
+
+    /**
+     * Returns an {@code Optional<Person>} that matches the given {@code nric}.
+     */
+    Optional<Person> getPerson(Nric nric);
+
+    /**
+     * Deletes the given person.
+     * The person must exist in the database.
+     */
+    void deletePerson(Person target);
+
+    /**
+     * Adds the given person.
+     * {@code person} must not already exist in the database.
+     */
+    void addPerson(Person person);
+
+    /**
+     * Replaces the given person {@code target} with {@code editedPerson}.
+     * {@code target} must exist in the database.
+     * The person identity of {@code editedPerson} must not be the same as another existing person in the database.
+     */
+    void updatePerson(Person target, Person editedPerson);
+}
@@ -0,0 +1,281 @@
+package seedu.address.model;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.events.model.PersonChangedEvent;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+
+/**
+ * The changes made to the person list of an {@code AddressBook} between two commits, in the order they were made.
+ * Only the persons that were added, removed or replaced are recorded, so undoing or redoing the changes takes time
+ * proportional to the number of changes rather than to the size of the address book.
+ */
+class PersonListDelta {
+
+    private final List<Change> changes = new ArrayList<>();
+
+    /**
+     * Records that {@code person} was inserted at position {@code index} of the person list.
+     */
+    void recordAdd(Person person, int index) {
+        changes.add(new Addition(person, index));
+    }
+
+    /**
+     * Records that {@code person} was removed from position {@code index} of the person list.
+     */
+    void recordRemove(Person person, int index) {
+        changes.add(new Removal(person, index));
+    }
+
+    /**
+     * Records that {@code target} was replaced by {@code editedPerson}.
+     */
+    void recordReplace(Person target, Person editedPerson) {
+        changes.add(new Replacement(target, editedPerson));
+    }
+
+    /**
+     * Records that the whole person list was replaced.
+     */
+    void recordReset(List<Person> oldPersons, List<Person> newPersons) {
+        changes.add(new Reset(oldPersons, newPersons));
+    }
+
+    /**
+     * Records that the person list was restored from the snapshot {@code from} to the snapshot {@code to}.
+     */
+    void recordSnapshotChange(PersonListSnapshot from, PersonListSnapshot to) {
+        changes.add(new SnapshotChange(from, to));
+    }
+
+    /**
+     * Reverts the recorded changes on {@code addressBook}, which must be in the state right after the changes.
+     */
+    void undo(AddressBook addressBook) {
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            changes.get(i).undo(addressBook);
+        }
+    }
+
+    /**
+     * Reapplies the recorded changes on {@code addressBook}, which must be in the state right before the changes.
+     */
+    void redo(AddressBook addressBook) {
+        for (Change change : changes) {
+            change.redo(addressBook);
+        }
+    }
+
+    /**
+     * Returns an event listing the persons that the recorded changes added, removed or replaced, in time proportional
+     * to the number of persons changed. A person that ends up as the same instance it started as is not listed.
+     */
+    PersonChangedEvent toPersonChangedEvent() {
+        Map<Nric, Person[]> beforeAndAfterByNric = new HashMap<>();
+        for (Change change : changes) {
+            change.accumulate(beforeAndAfterByNric);
+        }
+
+        Set<Nric> addedNrics = new HashSet<>();
+        Set<Nric> removedNrics = new HashSet<>();
+        Map<Nric, Person> replacedPersons = new HashMap<>();
+        beforeAndAfterByNric.forEach((nric, beforeAndAfter) -> {
+            Person before = beforeAndAfter[0];
+            Person after = beforeAndAfter[1];
+            if (before == after) {
+                return;
+            }
+            if (before == null) {
+                addedNrics.add(nric);
+            } else if (after == null) {
+                removedNrics.add(nric);
+            } else {
+                replacedPersons.put(nric, after);
+            }
+        });
+        return new PersonChangedEvent(addedNrics, removedNrics, replacedPersons);
+    }
+
+    /**
+     * Merges the change of {@code nric} from {@code before} to {@code after} into {@code beforeAndAfterByNric}.
+     */
+    private static void accumulate(Map<Nric, Person[]> beforeAndAfterByNric, Nric nric, Person before,
+                                   Person after) {
+        beforeAndAfterByNric.computeIfAbsent(nric, unused -> new Person[] {before, null})[1] = after;
+    }
+
+    /**
+     * A single recorded change to the person list.
+     */
+    private interface Change {
+        void undo(AddressBook addressBook);
+
+        void redo(AddressBook addressBook);
+
+        /**
+         * Merges the effect of this change into {@code beforeAndAfterByNric}.
+         */
+        void accumulate(Map<Nric, Person[]> beforeAndAfterByNric);
+    }
+
+    /**
+     * A person inserted at a position in the person list.
+     */
+    private static class Addition implements Change {
+        private final Person person;
+        private final int index;
+
+        Addition(Person person, int index) {
+            this.person = person;
+            this.index = index;
+        }
+
+        @Override
+        public void undo(AddressBook addressBook) {
+            addressBook.removePerson(person);
+        }
+
+        @Override
+        public void redo(AddressBook addressBook) {
+            addressBook.addPerson(index, person);
+        }
+
+        @Override
+        public void accumulate(Map<Nric, Person[]> beforeAndAfterByNric) {
+            PersonListDelta.accumulate(beforeAndAfterByNric, person.getNric(), null, person);
+        }
+    }
+
+    /**
+     * A person removed from a position in the person list.
+     */
+    private static class Removal implements Change {
+        private final Person person;
+        private final int index;
+
+        Removal(Person person, int index) {
+            this.person = person;
+            this.index = index;
+        }
+
+        @Override
+        public void undo(AddressBook addressBook) {
+            addressBook.addPerson(index, person);
+        }
+
+        @Override
+        public void redo(AddressBook addressBook) {
+            addressBook.removePerson(person);
+        }
+
+        @Override
+        public void accumulate(Map<Nric, Person[]> beforeAndAfterByNric) {
+            PersonListDelta.accumulate(beforeAndAfterByNric, person.getNric(), person, null);
+        }
+    }
+
+    /**
+     * A person replaced by an edited version of it.
+     */
+    private static class Replacement implements Change {
+        private final Person target;
+        private final Person editedPerson;
+
+        Replacement(Person target, Person editedPerson) {
+            this.target = target;
+            this.editedPerson = editedPerson;
+        }
+
+        @Override
+        public void undo(AddressBook addressBook) {
+            addressBook.updatePerson(editedPerson, target);
+        }
+
+        @Override
+        public void redo(AddressBook addressBook) {
+            addressBook.updatePerson(target, editedPerson);
+        }
+
+        @Override
+        public void accumulate(Map<Nric, Person[]> beforeAndAfterByNric) {
+            if (target.isSamePerson(editedPerson)) {
+                PersonListDelta.accumulate(beforeAndAfterByNric, target.getNric(), target, editedPerson);
+            } else {
+                PersonListDelta.accumulate(beforeAndAfterByNric, target.getNric(), target, null);
+                PersonListDelta.accumulate(beforeAndAfterByNric, editedPerson.getNric(), null, editedPerson);
+            }
+        }
+    }
+
+    /**
+     * The whole person list replaced, e.g. by {@code AddressBook#resetData(ReadOnlyAddressBook)}.
+     */
+    private static class Reset implements Change {
+        private final List<Person> oldPersons;
+        private final List<Person> newPersons;
+
+        Reset(List<Person> oldPersons, List<Person> newPersons) {
+            this.oldPersons = Collections.unmodifiableList(new ArrayList<>(oldPersons));
+            this.newPersons = Collections.unmodifiableList(new ArrayList<>(newPersons));
+        }
+
+        @Override
+        public void undo(AddressBook addressBook) {
+            addressBook.setPersons(oldPersons);
+        }
+
+        @Override
+        public void redo(AddressBook addressBook) {
+            addressBook.setPersons(newPersons);
+        }
+
+        @Override
+        public void accumulate(Map<Nric, Person[]> beforeAndAfterByNric) {
+            oldPersons.forEach(person -> PersonListDelta.accumulate(beforeAndAfterByNric, person.getNric(),
+                    person, null));
+            newPersons.forEach(person -> PersonListDelta.accumulate(beforeAndAfterByNric, person.getNric(),
+                    null, person));
+        }
+    }
+
+    /**
+     * The person list restored from one {@code PersonListSnapshot} to another, e.g. by
+     * {@code VersionedAddressBook#undo()}. Only the persons in the chunks that the snapshots do not share can have
+     * changed, so only those are accumulated.
+     */
+    private static class SnapshotChange implements Change {
+        private final PersonListSnapshot from;
+        private final PersonListSnapshot to;
+
+        SnapshotChange(PersonListSnapshot from, PersonListSnapshot to) {
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        public void undo(AddressBook addressBook) {
+            addressBook.setPersons(from.asList());
+        }
+
+        @Override
+        public void redo(AddressBook addressBook) {
+            addressBook.setPersons(to.asList());
+        }
+
+        @Override
+        public void accumulate(Map<Nric, Person[]> beforeAndAfterByNric) {
+            from.forEachPersonNotSharedWith(to, person -> PersonListDelta.accumulate(beforeAndAfterByNric,
+                    person.getNric(), person, null));
+            to.forEachPersonNotSharedWith(from, person -> PersonListDelta.accumulate(beforeAndAfterByNric,
+                    person.getNric(), null, person));
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package seedu.address.model;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.BitSet;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Evaluates a predicate over a list of persons on every core, and hands the results to a {@code FilteredList} as a
+ * predicate that it can apply in its single pass over the list without testing any person again.
+ *
+ * A {@code FilteredList} tests every person on the thread that sets its predicate, one after another. For a large
+ * list, the persons are instead split into chunks that are tested in parallel into a {@code BitSet}, and the
+ * filtered list is then updated once from the bitset. The predicate must therefore be safe to test from several
+ * threads at once.
+ */
+class PersonListFilter {
+
+    /** Lists shorter than this are filtered by the {@code FilteredList} itself, as splitting them costs more */
+    static final int PARALLEL_THRESHOLD = 4096;
+
+    private static final int CHUNK_SIZE = 1024;
+
+    private PersonListFilter() {}
+
+    /**
+     * Returns a predicate that gives the same results as {@code predicate} for the persons in {@code persons}.
+     * If there are at least {@link #PARALLEL_THRESHOLD} persons, {@code predicate} is tested against all of them in
+     * parallel before returning, otherwise {@code predicate} itself is returned.
+     */
+    static Predicate<Person> precompute(List<Person> persons, Predicate<Person> predicate) {
+        requireAllNonNull(persons, predicate);
+        if (persons.size() < PARALLEL_THRESHOLD) {
+            return predicate;
+        }
+
+        Person[] snapshot = persons.toArray(new Person[0]);
+        return new PrecomputedPredicate(snapshot, evaluate(snapshot, predicate), predicate);
+    }
+
+    /**
+     * Returns the positions of the persons in {@code persons} that match {@code predicate}, testing chunks of the
+     * persons in parallel.
+     */
+    static BitSet evaluate(Person[] persons, Predicate<? super Person> predicate) {
+        requireAllNonNull(persons, predicate);
+        int chunkCount = (persons.length + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        return IntStream.range(0, chunkCount).parallel().collect(BitSet::new, (matches, chunk) -> {
+            int end = Math.min(persons.length, (chunk + 1) * CHUNK_SIZE);
+            for (int i = chunk * CHUNK_SIZE; i < end; i++) {
+                if (predicate.test(persons[i])) {
+                    matches.set(i);
+                }
+            }
+        }, BitSet::or);
+    }
+
+    /**
+     * A predicate that looks up the precomputed result of each person in a snapshot of the list.
+     *
+     * A {@code FilteredList} tests the persons of its source list in order whenever its predicate is set, so the
+     * results are looked up by walking the snapshot alongside. Any person that is not the next one in the snapshot,
+     * e.g. a person added to the list afterwards, is tested against the original predicate instead.
+     */
+    private static class PrecomputedPredicate implements Predicate<Person> {
+        private final Person[] persons;
+        private final BitSet matches;
+        private final Predicate<Person> predicate;
+        private int position;
+
+        PrecomputedPredicate(Person[] persons, BitSet matches, Predicate<Person> predicate) {
+            this.persons = persons;
+            this.matches = matches;
+            this.predicate = predicate;
+        }
+
+        @Override
+        public boolean test(Person person) {
+            if (position < persons.length && persons[position] == person) {
+                return matches.get(position++);
+            }
+            return predicate.test(person);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import seedu.address.model.person.Person;
+
+/**
+ * An immutable snapshot of a list of persons that shares storage with the snapshot it was derived from.
+ *
+ * The persons are held in chunks whose boundaries are chosen by the persons themselves rather than by their
+ * positions: a chunk ends after a person whose identity hash falls in a fixed 1 in {@code CHUNK_SIZE} range, or once
+ * it holds {@code MAX_CHUNK_SIZE} persons. When a snapshot is taken, every chunk that holds exactly the same person
+ * instances as a chunk of the previous snapshot is reused as is. Adding, editing or deleting a person only changes
+ * the boundaries around that person, so the chunks after it are still shared even though their positions shifted,
+ * and consecutive snapshots that differ in a few persons store little more than the chunks containing those persons.
+ *
+ * Taking a snapshot still reads and compares every person of the list, which is O(n) in time, but no longer copies
+ * the persons of the unchanged chunks.
+ */
+class PersonListSnapshot {
+
+    /** The expected number of persons in a chunk, which must be a power of two */
+    static final int CHUNK_SIZE = 32;
+    /** The number of persons after which a chunk is ended, even if none of them ends it */
+    static final int MAX_CHUNK_SIZE = CHUNK_SIZE * 8;
+
+    private static final Person[][] NO_CHUNKS = new Person[0][];
+
+    private final Person[][] chunks;
+    /** The position in the list of the first person of each chunk */
+    private final int[] chunkStarts;
+    private final int size;
+
+    private PersonListSnapshot(Person[][] chunks, int[] chunkStarts, int size) {
+        this.chunks = chunks;
+        this.chunkStarts = chunkStarts;
+        this.size = size;
+    }
+
+    /**
+     * Returns a snapshot of {@code persons}, reusing the unchanged chunks of {@code previous} if it is not null.
+     */
+    static PersonListSnapshot of(List<Person> persons, PersonListSnapshot previous) {
+        requireNonNull(persons);
+        Map<Person, Person[]> previousChunksByFirstPerson = new IdentityHashMap<>();
+        if (previous != null) {
+            for (Person[] chunk : previous.chunks) {
+                previousChunksByFirstPerson.put(chunk[0], chunk);
+            }
+        }
+
+        int size = persons.size();
+        Person[][] chunks = NO_CHUNKS;
+        int[] chunkStarts = new int[0];
+        int chunkCount = 0;
+        int from = 0;
+        while (from < size) {
+            int to = findChunkEnd(persons, from);
+            Person[] previousChunk = previousChunksByFirstPerson.get(persons.get(from));
+            Person[] chunk = isSameChunk(previousChunk, persons, from, to)
+                    ? previousChunk
+                    : persons.subList(from, to).toArray(new Person[to - from]);
+
+            if (chunkCount == chunks.length) {
+                int capacity = Math.max(4, chunkCount * 2);
+                chunks = Arrays.copyOf(chunks, capacity);
+                chunkStarts = Arrays.copyOf(chunkStarts, capacity);
+            }
+            chunks[chunkCount] = chunk;
+            chunkStarts[chunkCount] = from;
+            chunkCount++;
+            from = to;
+        }
+        return new PersonListSnapshot(Arrays.copyOf(chunks, chunkCount), Arrays.copyOf(chunkStarts, chunkCount),
+                size);
+    }
+
+    /**
+     * Returns the position after the last person of the chunk that starts at {@code from} in {@code persons}.
+     */
+    private static int findChunkEnd(List<Person> persons, int from) {
+        int end = Math.min(persons.size(), from + MAX_CHUNK_SIZE);
+        for (int i = from; i < end; i++) {
+            if (endsChunk(persons.get(i))) {
+                return i + 1;
+            }
+        }
+        return end;
+    }
+
+    /**
+     * Returns true if a chunk ends after {@code person}, which holds for about 1 in {@code CHUNK_SIZE} persons.
+     */
+    private static boolean endsChunk(Person person) {
+        // spreads the identity hash, whose low bits are not always well distributed
+        int hash = System.identityHashCode(person) * 0x9E3779B9;
+        return (hash >>> (Integer.SIZE - Integer.numberOfTrailingZeros(CHUNK_SIZE))) == 0;
+    }
+
+    /**
+     * Returns true if {@code chunk} holds exactly the same person instances as {@code persons} from {@code from} to
+     * {@code to}.
+     */
+    private static boolean isSameChunk(Person[] chunk, List<Person> persons, int from, int to) {
+        if (chunk == null || chunk.length != to - from) {
+            return false;
+        }
+        for (int i = 0; i < chunk.length; i++) {
+            if (chunk[i] != persons.get(from + i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    int getChunkCount() {
+        return chunks.length;
+    }
+
+    /**
+     * Returns the number of chunks of this snapshot whose storage is shared with {@code other}.
+     */
+    int countChunksSharedWith(PersonListSnapshot other) {
+        Set<Person[]> otherChunks = other.getChunkSet();
+        int sharedChunkCount = 0;
+        for (Person[] chunk : chunks) {
+            if (otherChunks.contains(chunk)) {
+                sharedChunkCount++;
+            }
+        }
+        return sharedChunkCount;
+    }
+
+    /**
+     * Performs {@code action} on each person of the chunks of this snapshot whose storage is not shared with
+     * {@code other}. Every person of this snapshot that is not in {@code other} is among them, but so may be some
+     * persons that are.
+     */
+    void forEachPersonNotSharedWith(PersonListSnapshot other, Consumer<Person> action) {
+        Set<Person[]> otherChunks = other.getChunkSet();
+        for (Person[] chunk : chunks) {
+            if (!otherChunks.contains(chunk)) {
+                Arrays.stream(chunk).forEach(action);
+            }
+        }
+    }
+
+    /**
+     * Returns the chunks of this snapshot, compared by identity.
+     */
+    private Set<Person[]> getChunkSet() {
+        Set<Person[]> chunkSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        chunkSet.addAll(Arrays.asList(chunks));
+        return chunkSet;
+    }
+
+    /**
+     * Returns an unmodifiable list view of the persons in this snapshot.
+     */
+    List<Person> asList() {
+        return new AbstractList<Person>() {
+            @Override
+            public Person get(int index) {
+                if (index < 0 || index >= size) {
+                    throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+                }
+                int chunkIndex = Arrays.binarySearch(chunkStarts, index);
+                if (chunkIndex < 0) {
+                    // the index is inside the chunk before the insertion point
+                    chunkIndex = -chunkIndex - 2;
+                }
+                return chunks[chunkIndex][index - chunkStarts[chunkIndex]];
+            }
+
+            @Override
+            public int size() {
+                return size;
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other == this // short circuit if same object
+                || (other instanceof PersonListSnapshot // instanceof handles nulls
+                && asList().equals(((PersonListSnapshot) other).asList()));
+    }
+
+    @Override
+    public int hashCode() {
+        return asList().hashCode();
+    }
+}
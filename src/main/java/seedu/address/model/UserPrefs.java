@@ -11,8 +11,24 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs {
 
+    public static final int DEFAULT_HISTORY_DEPTH = 100;
+    /** The system property that changes the default history mode, e.g. to run the tests with {@code DELTA} */
+    public static final String HISTORY_MODE_PROPERTY = "addressbook.historyMode";
+
+    /**
+     * The formats the address book can be stored in.
+     * {@code MAPPED} stores the address book in the same file as {@code BINARY}, but maps the file into memory
+     * and reads it in the background once the UI is shown.
+     */
+    public enum AddressBookFormat {
+        XML, BINARY, MAPPED
+    }
+
     private GuiSettings guiSettings;
     private Path addressBookFilePath = Paths.get("data" , "addressbook.xml");
+    private int historyDepth = DEFAULT_HISTORY_DEPTH;
+    private VersionedAddressBook.HistoryMode historyMode = getDefaultHistoryMode();
+    private AddressBookFormat addressBookFormat = AddressBookFormat.XML;
 
     public UserPrefs() {
         setGuiSettings(500, 500, 0, 0);
@@ -38,6 +54,48 @@ public class UserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    /**
+     * Returns the maximum number of commands that can be undone.
+     */
+    public int getHistoryDepth() {
+        return historyDepth;
+    }
+
+    public void setHistoryDepth(int historyDepth) {
+        this.historyDepth = historyDepth;
+    }
+
+    /**
+     * Returns how the undo history is stored.
+     */
+    public VersionedAddressBook.HistoryMode getHistoryMode() {
+        return historyMode == null ? getDefaultHistoryMode() : historyMode;
+    }
+
+    /**
+     * Returns the history mode named by the {@code HISTORY_MODE_PROPERTY} system property, or {@code SNAPSHOT} if it
+     * is not set.
+     */
+    private static VersionedAddressBook.HistoryMode getDefaultHistoryMode() {
+        return VersionedAddressBook.HistoryMode.valueOf(System.getProperty(HISTORY_MODE_PROPERTY,
+                VersionedAddressBook.HistoryMode.SNAPSHOT.name()));
+    }
+
+    public void setHistoryMode(VersionedAddressBook.HistoryMode historyMode) {
+        this.historyMode = historyMode;
+    }
+
+    /**
+     * Returns the format the address book is stored in.
+     */
+    public AddressBookFormat getAddressBookFormat() {
+        return addressBookFormat == null ? AddressBookFormat.XML : addressBookFormat;
+    }
+
+    public void setAddressBookFormat(AddressBookFormat addressBookFormat) {
+        this.addressBookFormat = addressBookFormat;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -50,12 +108,15 @@ public class UserPrefs {
         UserPrefs o = (UserPrefs) other;
 
         return Objects.equals(guiSettings, o.guiSettings)
-                && Objects.equals(addressBookFilePath, o.addressBookFilePath);
+                && Objects.equals(addressBookFilePath, o.addressBookFilePath)
+                && historyDepth == o.historyDepth
+                && Objects.equals(historyMode, o.historyMode)
+                && Objects.equals(addressBookFormat, o.addressBookFormat);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, historyDepth, historyMode, addressBookFormat);
     }
 
     @Override
@@ -63,6 +124,9 @@ public class UserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings.toString());
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nUndo history depth : " + historyDepth);
+        sb.append("\nUndo history mode : " + historyMode);
+        sb.append("\nLocal data file format : " + addressBookFormat);
         return sb.toString();
     }
 
@@ -1,36 +1,119 @@
 package seedu.address.model;
 
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.TreeMap;
+import java.util.function.Consumer;
+
+import seedu.address.model.person.Person;
 
 /**
  * {@code AddressBook} that keeps track of its own history.
+ * The history is kept in one of two {@code HistoryMode}s. In {@code SNAPSHOT} mode, each state is a
+ * {@code PersonListSnapshot} that shares storage with the state before it, so a commit only stores the parts of the
+ * person list that changed, although it still compares every person with the state before it.
+ * In {@code DELTA} mode, only the changes made between commits are recorded, and undo and redo replay them without
+ * rebuilding the whole person list.
+ * At most {@code maxHistoryDepth} states before the current one are kept; older states are discarded.
  */
 public class VersionedAddressBook extends AddressBook {
 
-    private final List<ReadOnlyAddressBook> addressBookStateList;
+    public static final String MESSAGE_INVALID_HISTORY_DEPTH = "History depth must not be negative.";
+
+    /**
+     * How the states of a {@code VersionedAddressBook} are stored.
+     */
+    public enum HistoryMode {
+        SNAPSHOT, DELTA
+    }
+
+    private final HistoryMode historyMode;
+    private final int maxHistoryDepth;
+
+    /** States of the address book, used in {@code SNAPSHOT} mode */
+    private final List<PersonListSnapshot> addressBookStateList = new ArrayList<>();
+    /** Changes leading from each state to the next, used in {@code DELTA} mode */
+    private final List<PersonListDelta> addressBookDeltaList = new ArrayList<>();
+    /** Changes made since the last commit, used in {@code DELTA} mode */
+    private PersonListDelta uncommittedDelta = new PersonListDelta();
+    private boolean isReplayingDelta;
+    /** True if the person list has changed since the last commit, used in {@code SNAPSHOT} mode */
+    private boolean hasUncommittedChanges;
+    /** Changes recorded since {@code startRecordingChanges()}, or null if changes are not being recorded */
+    private PersonListDelta recordedChanges;
     private int currentStatePointer;
 
     public VersionedAddressBook(ReadOnlyAddressBook initialState) {
+        this(initialState, UserPrefs.DEFAULT_HISTORY_DEPTH, HistoryMode.SNAPSHOT);
+    }
+
+    /**
+     * Creates a {@code VersionedAddressBook} that keeps at most {@code maxHistoryDepth} undoable states,
+     * stored according to {@code historyMode}.
+     */
+    public VersionedAddressBook(ReadOnlyAddressBook initialState, int maxHistoryDepth, HistoryMode historyMode) {
         super(initialState);
+        requireNonNull(historyMode);
+        checkArgument(maxHistoryDepth >= 0, MESSAGE_INVALID_HISTORY_DEPTH);
 
-        addressBookStateList = new ArrayList<>();
-        addressBookStateList.add(new AddressBook(initialState));
+        this.maxHistoryDepth = maxHistoryDepth;
+        this.historyMode = historyMode;
+        if (historyMode == HistoryMode.SNAPSHOT) {
+            addressBookStateList.add(PersonListSnapshot.of(getPersonList(), null));
+        }
+        // the superclass constructor sets the person list before the fields are initialised
+        hasUncommittedChanges = false;
         currentStatePointer = 0;
     }
 
     /**
-     * Saves a copy of the current {@code AddressBook} state at the end of the state list.
-     * Undone states are removed from the state list.
+     * Saves the current {@code AddressBook} state at the end of the state list.
+     * Undone states are removed from the state list, and the oldest state is dropped once
+     * the history is deeper than {@code maxHistoryDepth}.
      */
     public void commit() {
-        removeStatesAfterCurrentPointer();
-        addressBookStateList.add(new AddressBook(this));
+        if (historyMode == HistoryMode.SNAPSHOT) {
+            addressBookStateList.subList(currentStatePointer + 1, addressBookStateList.size()).clear();
+            addressBookStateList.add(PersonListSnapshot.of(getPersonList(),
+                    addressBookStateList.get(currentStatePointer)));
+        } else {
+            addressBookDeltaList.subList(currentStatePointer, addressBookDeltaList.size()).clear();
+            addressBookDeltaList.add(uncommittedDelta);
+            uncommittedDelta = new PersonListDelta();
+        }
+        hasUncommittedChanges = false;
         currentStatePointer++;
+
+        while (currentStatePointer > maxHistoryDepth) {
+            if (historyMode == HistoryMode.SNAPSHOT) {
+                addressBookStateList.remove(0);
+            } else {
+                addressBookDeltaList.remove(0);
+            }
+            currentStatePointer--;
+        }
     }
 
-    private void removeStatesAfterCurrentPointer() {
-        addressBookStateList.subList(currentStatePointer + 1, addressBookStateList.size()).clear();
+    /**
+     * Replaces the contents of the address book with {@code newData} and discards the history, so that
+     * {@code newData} becomes the earliest state that can be restored by {@code undo()}.
+     */
+    public void resetHistory(ReadOnlyAddressBook newData) {
+        requireNonNull(newData);
+        replay(() -> resetData(newData));
+        uncommittedDelta = new PersonListDelta();
+        addressBookDeltaList.clear();
+        addressBookStateList.clear();
+        if (historyMode == HistoryMode.SNAPSHOT) {
+            addressBookStateList.add(PersonListSnapshot.of(getPersonList(), null));
+        }
+        hasUncommittedChanges = false;
+        currentStatePointer = 0;
     }
 
     /**
@@ -41,7 +124,13 @@ public class VersionedAddressBook extends AddressBook {
             throw new NoUndoableStateException();
         }
         currentStatePointer--;
-        resetData(addressBookStateList.get(currentStatePointer));
+        if (historyMode == HistoryMode.SNAPSHOT) {
+            restoreSnapshot(addressBookStateList.get(currentStatePointer + 1),
+                    addressBookStateList.get(currentStatePointer));
+        } else {
+            discardUncommittedDelta();
+            replay(() -> addressBookDeltaList.get(currentStatePointer).undo(this));
+        }
     }
 
     /**
@@ -51,8 +140,31 @@ public class VersionedAddressBook extends AddressBook {
         if (!canRedo()) {
             throw new NoRedoableStateException();
         }
+        if (historyMode == HistoryMode.SNAPSHOT) {
+            restoreSnapshot(addressBookStateList.get(currentStatePointer),
+                    addressBookStateList.get(currentStatePointer + 1));
+        } else {
+            discardUncommittedDelta();
+            replay(() -> addressBookDeltaList.get(currentStatePointer).redo(this));
+        }
         currentStatePointer++;
-        resetData(addressBookStateList.get(currentStatePointer));
+    }
+
+    /**
+     * Restores the person list to the snapshot {@code to} from the snapshot {@code from} of the current state.
+     * If the person list has changed since the current state was committed, the changes are recorded against the
+     * whole person list instead, as they are not in {@code from}.
+     */
+    private void restoreSnapshot(PersonListSnapshot from, PersonListSnapshot to) {
+        if (hasUncommittedChanges) {
+            setPersons(to.asList());
+        } else {
+            super.setPersons(to.asList());
+            if (recordedChanges != null) {
+                recordedChanges.recordSnapshotChange(from, to);
+            }
+        }
+        hasUncommittedChanges = false;
     }
 
     /**
@@ -66,7 +178,134 @@ public class VersionedAddressBook extends AddressBook {
      * Returns true if {@code redo()} has address book states to redo.
      */
     public boolean canRedo() {
-        return currentStatePointer < addressBookStateList.size() - 1;
+        int stateCount = historyMode == HistoryMode.SNAPSHOT
+                ? addressBookStateList.size()
+                : addressBookDeltaList.size() + 1;
+        return currentStatePointer < stateCount - 1;
+    }
+
+    //// change recording
+
+    /**
+     * Starts recording the changes made to the person list, including those made by {@code undo()} and
+     * {@code redo()}, until {@code stopRecordingChanges()} is called.
+     */
+    void startRecordingChanges() {
+        recordedChanges = new PersonListDelta();
+    }
+
+    /**
+     * Stops recording the changes made to the person list and returns the changes made since
+     * {@code startRecordingChanges()} was called.
+     */
+    PersonListDelta stopRecordingChanges() {
+        PersonListDelta changes = recordedChanges;
+        recordedChanges = null;
+        return changes;
+    }
+
+    @Override
+    public void setPersons(List<Person> persons) {
+        List<Person> oldPersons = isRecording() ? new ArrayList<>(getPersonList()) : null;
+        super.setPersons(persons);
+        record(delta -> delta.recordReset(oldPersons, persons));
+    }
+
+    @Override
+    public void addPerson(Person p) {
+        super.addPerson(p);
+        int index = getPersonList().size() - 1;
+        record(delta -> delta.recordAdd(p, index));
+    }
+
+    @Override
+    void addPerson(int index, Person p) {
+        super.addPerson(index, p);
+        record(delta -> delta.recordAdd(p, index));
+    }
+
+    @Override
+    public void updatePerson(Person target, Person editedPerson) {
+        int index = indexOfPerson(target);
+        Person storedTarget = index == -1 ? null : getPersonList().get(index);
+        super.updatePerson(target, editedPerson);
+        record(delta -> delta.recordReplace(storedTarget, editedPerson));
+    }
+
+    @Override
+    public void removePerson(Person key) {
+        int index = indexOfPerson(key);
+        Person storedKey = index == -1 ? null : getPersonList().get(index);
+        super.removePerson(key);
+        record(delta -> delta.recordRemove(storedKey, index));
+    }
+
+    @Override
+    public void removePersons(Collection<Person> keys) {
+        // Removals are recorded from the back of the list, so that undoing them in reverse reinserts each person at
+        // the position it was removed from.
+        TreeMap<Integer, Person> removedPersonsByIndex = new TreeMap<>(Comparator.reverseOrder());
+        if (isRecording()) {
+            for (Person key : keys) {
+                int index = indexOfPerson(key);
+                if (index != -1) {
+                    removedPersonsByIndex.put(index, getPersonList().get(index));
+                }
+            }
+        }
+        super.removePersons(keys);
+        record(delta -> removedPersonsByIndex.forEach((index, person) -> delta.recordRemove(person, index)));
+    }
+
+    /**
+     * Returns true if changes to the person list are recorded in {@code uncommittedDelta} or {@code recordedChanges}.
+     */
+    private boolean isRecording() {
+        return isRecordingDelta() || recordedChanges != null;
+    }
+
+    /**
+     * Records a change to the person list with {@code recordAction} in {@code uncommittedDelta} if in {@code DELTA}
+     * mode, and in {@code recordedChanges} if changes are being recorded. {@code recordAction} is not run if neither
+     * is the case.
+     */
+    private void record(Consumer<PersonListDelta> recordAction) {
+        hasUncommittedChanges = true;
+        if (isRecordingDelta()) {
+            recordAction.accept(uncommittedDelta);
+        }
+        if (recordedChanges != null) {
+            recordAction.accept(recordedChanges);
+        }
+    }
+
+    /**
+     * Returns true if changes to the person list should be recorded in {@code uncommittedDelta}.
+     * This is never the case while the superclass constructor runs, as {@code historyMode} is not yet set.
+     */
+    private boolean isRecordingDelta() {
+        return historyMode == HistoryMode.DELTA && !isReplayingDelta;
+    }
+
+    /**
+     * Reverts the changes made since the last commit.
+     */
+    private void discardUncommittedDelta() {
+        PersonListDelta delta = uncommittedDelta;
+        uncommittedDelta = new PersonListDelta();
+        replay(() -> delta.undo(this));
+    }
+
+    /**
+     * Runs {@code replayAction} without recording the changes it makes.
+     */
+    private void replay(Runnable replayAction) {
+        isReplayingDelta = true;
+        try {
+            replayAction.run();
+        } finally {
+            isReplayingDelta = false;
+        }
     }
 
     @Override
@@ -84,8 +323,11 @@ public class VersionedAddressBook extends AddressBook {
         VersionedAddressBook otherVersionedAddressBook = (VersionedAddressBook) other;
 
         // state check
+        // The deltas record how each state was reached, which does not matter, so only their number is compared.
         return super.equals(otherVersionedAddressBook)
+                && historyMode == otherVersionedAddressBook.historyMode
                 && addressBookStateList.equals(otherVersionedAddressBook.addressBookStateList)
+                && addressBookDeltaList.size() == otherVersionedAddressBook.addressBookDeltaList.size()
                 && currentStatePointer == otherVersionedAddressBook.currentStatePointer;
     }
 
@@ -172,12 +172,21 @@ public class Appointment extends DisplayableAttribute {
      * @return whether the appointment is ongoing at the given date and time.
      */
     public boolean isOngoing(String date, String time) {
+        return isOngoing(new Date(date), new Time(time));
+    }
+
+    /**
+     *
+     * @param date a given date
+     * @param time a given time
+     * @return whether the appointment is ongoing at the given date and time.
+     */
+    public boolean isOngoing(Date date, Time time) {
         // If different date, we know for sure Appointment is not ongoing.
-        if (!this.date.equals(new Date(date))) {
+        if (!this.date.equals(date)) {
             return false;
         }
-        Time givenTime = new Time(time);
-        return (givenTime.comesAfter(startTime) && givenTime.comesBefore(endTime));
+        return (time.comesAfter(startTime) && time.comesBefore(endTime));
     }
 
     /**
@@ -0,0 +1,119 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * A read-only index over a list of {@code Appointment}s that answers clash queries in logarithmic time.
+ * Appointments are bucketed by {@code Date}; within a bucket, the intervals are kept sorted by start time together
+ * with the running maximum of their end times, so a query only needs a single binary search.
+ * Clash semantics are identical to {@link Appointment#isClash(Appointment)}: intervals are closed, so appointments
+ * that merely touch are considered to clash. Empty appointments are ignored.
+ */
+public class AppointmentIndex {
+
+    private final Map<Date, DayBucket> buckets = new HashMap<>();
+    private final int size;
+
+    /**
+     * Builds an index over the given appointments. The list is not retained.
+     */
+    public AppointmentIndex(List<Appointment> appointments) {
+        requireNonNull(appointments);
+        Map<Date, List<Appointment>> appointmentsByDate = new HashMap<>();
+        for (Appointment appointment : appointments) {
+            if (appointment.getDate() == null) {
+                continue;
+            }
+            appointmentsByDate.computeIfAbsent(appointment.getDate(), date -> new ArrayList<>()).add(appointment);
+        }
+        appointmentsByDate.forEach((date, appointmentsOnDate) -> buckets.put(date, new DayBucket(appointmentsOnDate)));
+        size = appointments.size();
+    }
+
+    /**
+     * Returns the number of appointments, including empty ones, that this index was built from.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns true if {@code otherAppointment} clashes with any indexed appointment.
+     */
+    public boolean isClash(Appointment otherAppointment) {
+        requireNonNull(otherAppointment);
+        return isClash(otherAppointment.getDate(), otherAppointment.getStartTime(), otherAppointment.getEndTime());
+    }
+
+    /**
+     * Returns true if any indexed appointment on {@code date} overlaps the closed interval
+     * from {@code startTime} to {@code endTime}.
+     */
+    public boolean isClash(Date date, Time startTime, Time endTime) {
+        requireNonNull(date);
+        requireNonNull(startTime);
+        requireNonNull(endTime);
+        DayBucket bucket = buckets.get(date);
+        return bucket != null && bucket.overlaps(startTime.getMinuteOfDay(), endTime.getMinuteOfDay());
+    }
+
+    /**
+     * The appointments of a single day, as start times in ascending order and the running maximum of end times.
+     */
+    private static class DayBucket {
+        private final int[] starts;
+        private final int[] maxEnds;
+
+        DayBucket(List<Appointment> appointments) {
+            int count = appointments.size();
+            int[][] intervals = new int[count][];
+            for (int i = 0; i < count; i++) {
+                Appointment appointment = appointments.get(i);
+                intervals[i] = new int[] {appointment.getStartTime().getMinuteOfDay(),
+                    appointment.getEndTime().getMinuteOfDay()};
+            }
+            Arrays.sort(intervals, Comparator.comparingInt(interval -> interval[0]));
+
+            starts = new int[count];
+            maxEnds = new int[count];
+            int maxEnd = Integer.MIN_VALUE;
+            for (int i = 0; i < count; i++) {
+                starts[i] = intervals[i][0];
+                maxEnd = Math.max(maxEnd, intervals[i][1]);
+                maxEnds[i] = maxEnd;
+            }
+        }
+
+        /**
+         * Returns true if some interval starts no later than {@code end} and ends no earlier than {@code start}.
+         */
+        boolean overlaps(int start, int end) {
+            int lastStartingInTime = upperBound(starts, end) - 1;
+            return lastStartingInTime >= 0 && maxEnds[lastStartingInTime] >= start;
+        }
+
+        /**
+         * Returns the index of the first element in {@code sorted} that is strictly greater than {@code key}.
+         */
+        private static int upperBound(int[] sorted, int key) {
+            int low = 0;
+            int high = sorted.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (sorted[mid] <= key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+}
@@ -1,17 +1,13 @@
 package seedu.address.model.person;
 
 import java.util.ArrayList;
+import java.util.Set;
 
 /**
  * Manages {@code Appointment} objects to check for clashes.
  */
 public class AppointmentManager {
 
-    private static final String PSEUDO_DOCTOR_NAME = "JOHN DOE";
-    private static final String PSEUDO_DOCTOR_NRIC = "S2401932B";
-    private static final String PSEUDO_PATIENT_NAME = "BOB";
-    private static final String PSEUDO_PATIENT_NRIC = "S8758412G";
-
     /**
      * Checks if there are any clashes between another appointment
      * compared to all the appoinments in the appointment list.
@@ -29,6 +25,18 @@ public class AppointmentManager {
         return false;
     }
 
+    /**
+     * Checks if there are any clashes between another appointment
+     * and the appointments covered by the given index.
+     *
+     * @param appointmentIndex index over a list of appointments
+     * @param otherAppointment  another appointment
+     * @return Boolean if there is any clash between other appointment and the indexed appointments.
+     */
+    public static boolean isClash(AppointmentIndex appointmentIndex, Appointment otherAppointment) {
+        return appointmentIndex.isClash(otherAppointment);
+    }
+
     /**
      * Checks if there are any clashes between another appointment.
      *
@@ -74,11 +82,9 @@ public class AppointmentManager {
         if (appointmentList == null) {
             return false;
         }
-        // We first retrieve the current date and time in the same format as Appointment's.
-        String[] dateAndTime = getCurrentDateAndTime().split(",");
-        String currentDate = dateAndTime[0];
-        String currentTime = dateAndTime[1];
-        // System.out.println(currentDate + " " + currentTime);
+        // We first retrieve the current date and time once, rather than for every appointment.
+        Date currentDate = Date.getCurrentDate();
+        Time currentTime = Time.getCurrentTime();
 
         // We check if the current time lies in the time interval of any Appointment.
         for (Appointment appt : appointmentList) {
@@ -102,18 +108,7 @@ public class AppointmentManager {
             return false;
         }
 
-        // System.out.println(currentDate + " " + currentTime);
-
-        // We check if the current time lies in the time interval of any Appointment.
-        for (Appointment appt : appointmentList) {
-            if (appt.value.equals("")) {
-                continue;
-            } else if (appt.isClash(new Appointment(date.toString(), startTime.toString(), endTime.toString(),
-                    PSEUDO_DOCTOR_NAME, PSEUDO_DOCTOR_NRIC, PSEUDO_PATIENT_NAME, PSEUDO_PATIENT_NRIC))) {
-                return true;
-            }
-        }
-        return false;
+        return new AppointmentIndex(appointmentList).isClash(date, startTime, endTime);
     }
 
     /**
@@ -154,6 +149,24 @@ public class AppointmentManager {
         return resultList;
     }
 
+    /**
+     *
+     * @param nrics Nrics of the patients and doctors whose appointments are to be removed.
+     * @param appointmentList Appointment List to be processed.
+     * @return a new appointment list where all the appointments
+     * with a patient or doctor whose Nric is in {@code nrics} will be removed.
+     */
+    public static ArrayList<Appointment> removeAppointmentsOfAny(Set<Nric> nrics,
+                                                                 ArrayList<Appointment> appointmentList) {
+        ArrayList<Appointment> resultList = new ArrayList<>();
+        for (Appointment appt : appointmentList) {
+            if (!nrics.contains(appt.getPatientNric()) && !nrics.contains(appt.getDoctorNric())) {
+                resultList.add(appt);
+            }
+        }
+        return resultList;
+    }
+
     /**
      *
      * @param oldPatientName Name of patient before change.
@@ -215,14 +228,4 @@ public class AppointmentManager {
         }
         return newAppointmentList;
     }
-
-    /**
-     * Extracts the current date and time from the java API for Singapore's timezone.
-     * Afterwards, format of date and time will be changed to that of Appointment's for easy comparison.
-     *
-     * @return a String containing the current date and time that aligns with the same format as Appointment.
-     */
-    private static String getCurrentDateAndTime() {
-        return Date.getCurrentDate().toString() + "," + Time.getCurrentTime().toString();
-    }
 }
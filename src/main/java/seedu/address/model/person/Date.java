@@ -2,38 +2,72 @@ package seedu.address.model.person;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.DateTimeException;
+import java.time.LocalDate;
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
-import java.util.ArrayList;
-import java.util.Arrays;
-import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 /**
  * Represents a date in the address book.
+ * The string representation is parsed once, when the date is created. Dates that exist on the calendar are also
+ * kept as an epoch day, so that validating, comparing, ordering and hashing them does not need to parse it again.
  */
-public class Date {
+public class Date implements Comparable<Date> {
 
     /*
      * Dates should be in DD.MM.YYYY format. Date and month can be 1 or 2 digits long
      */
-    private static final String DATE_VALIDATION_REGEX = "^\\d{1,2}\\.\\d{1,2}\\.\\d{4}";
+    private static final String DATE_VALIDATION_REGEX = "^(\\d{1,2})\\.(\\d{1,2})\\.(\\d{4})";
+    private static final Pattern DATE_VALIDATION_PATTERN = Pattern.compile(DATE_VALIDATION_REGEX);
 
     private static final String MESSAGE_DATE_INVALID_FORMAT_CONSTRAINTS = "Dates should be entered in "
             + "DD.MM.YYYY format. Date and month can have 1 or 2 digits, but the year must be 4 digits.";
     private static final String MESSAGE_DATE_INVALID_IN_THE_PAST = "This date is in the past and not in the future: ";
     private static final String MESSAGE_DATE_INVALID_DOES_NOT_EXIST = "This date does not exist: ";
 
-    private static final ArrayList<Integer> monthsWithThirtyOneDays = new ArrayList<>(Arrays.asList(1, 3, 5, 7, 8, 10,
-            12));
-    private static final ArrayList<Integer> monthsWithThirtyDays = new ArrayList<>(Arrays.asList(4, 6, 9, 11));
+    /** Marks a date that is not in the correct format or does not exist on the calendar */
+    private static final int UNKNOWN_EPOCH_DAY = Integer.MIN_VALUE;
 
     /** String representation of the date */
     private String date;
-
+    /** Whether the string representation is in DD.MM.YYYY format, in which case its fields are parsed below */
+    private final boolean isCorrectFormat;
+    private final int day;
+    private final int month;
+    private final int year;
+    /** Number of days since 1.1.1970, or {@code UNKNOWN_EPOCH_DAY} */
+    private final int epochDay;
 
     public Date(String date) {
         requireNonNull(date);
         this.date = date;
+
+        Matcher matcher = DATE_VALIDATION_PATTERN.matcher(date);
+        isCorrectFormat = matcher.matches();
+        if (!isCorrectFormat) {
+            day = 0;
+            month = 0;
+            year = 0;
+            epochDay = UNKNOWN_EPOCH_DAY;
+            return;
+        }
+        day = Integer.parseInt(matcher.group(1));
+        month = Integer.parseInt(matcher.group(2));
+        year = Integer.parseInt(matcher.group(3));
+        epochDay = toEpochDay(day, month, year);
+    }
+
+    /**
+     * Returns the epoch day of the given day, or {@code UNKNOWN_EPOCH_DAY} if it is not a date on the calendar.
+     */
+    private static int toEpochDay(int day, int month, int year) {
+        try {
+            return (int) LocalDate.of(year, month, day).toEpochDay();
+        } catch (DateTimeException e) {
+            return UNKNOWN_EPOCH_DAY;
+        }
     }
 
     /**
@@ -41,100 +75,37 @@ public class Date {
      * @return whether this date is a valid date.
      */
     public boolean isValid() {
-        return isCorrectFormat()
+        return isCorrectFormat
                 && doesExist()
                 && !isInThePast();
     }
 
-    private boolean isCorrectFormat() {
-        return date.matches(DATE_VALIDATION_REGEX);
-    }
-
     /**
      * Checks if a given date in the correct format exists.
      * @return whether given date exists.
      */
     private boolean doesExist() {
-        if (!isCorrectFormat()) {
-            return false;
-        }
-        boolean result = true;
-        List<String> valueList = Arrays.asList(date.split("\\."));
-        int date = Integer.parseInt(valueList.get(0));
-        int month = Integer.parseInt(valueList.get(1));
-        int year = Integer.parseInt(valueList.get(2));
-        if (date < 1) {
-            result = false;
-        } else if (monthsWithThirtyDays.contains(month) && (date > 30)) {
-            result = false;
-        } else if (monthsWithThirtyOneDays.contains(month) && (date > 31)) {
-            result = false;
-        } else if (month == 2 && isLeapYear(year) && (date > 29)) {
-            result = false;
-        } else if (month == 2 && !isLeapYear(year) && (date > 28)) {
-            result = false;
-        } else if (month > 12) {
-            return false;
-        }
-        return result;
+        return epochDay != UNKNOWN_EPOCH_DAY;
     }
 
     /**
      *
-     * Checks if the given date is in the past based on current date in Singapore's time zone.
+     * Checks if the given date, in the correct format, is in the past based on current date in Singapore's time zone.
      * @return whether the given date is in the past.
      */
     private boolean isInThePast() {
-        ZonedDateTime zonedDateTime = ZonedDateTime.now(ZoneId.of("Asia/Singapore"));
-        String stringZonedDateTime = zonedDateTime.toString();
-
-        // Splitting output from API into a date part and a time part.
-        String[] dateAndTimeParts = stringZonedDateTime.split("T");
-
-        // Reformatting the order of the date.
-        String currentDate = dateAndTimeParts[0];
-        String[] dateParts = currentDate.split("-");
-        String year = dateParts[0];
-        String month = dateParts[1];
-        String day = dateParts[2];
-        currentDate = day + "." + month + "." + year;
-        return (isBefore(currentDate, date));
-    }
-
-    /**
-     *
-     * Checks if the given date is strictly before the current date.
-     * @param currentDate the current date.
-     * @return whether the given date comes before the current date.
-     */
-    private static boolean isBefore(String currentDate, String givenDate) {
-        List<String> dateParts = Arrays.asList(givenDate.split("\\."));
-        int givenDay = Integer.parseInt(dateParts.get(0));
-        int givenMonth = Integer.parseInt(dateParts.get(1));
-        int givenYear = Integer.parseInt(dateParts.get(2));
-
-        List<String> currentDateParts = Arrays.asList(currentDate.split("\\."));
-        int currentDay = Integer.parseInt(currentDateParts.get(0));
-        int currentMonth = Integer.parseInt(currentDateParts.get(1));
-        int currentYear = Integer.parseInt(currentDateParts.get(2));
-
-        if (givenYear < currentYear) {
-            return true;
-        } else if (givenYear > currentYear) {
-            return false;
-        } else if (givenMonth < currentMonth) {
-            return true;
-        } else if (givenMonth > currentMonth) {
-            return false;
-        } else if (givenDay < currentDay) {
-            return true;
-        } else {
-            return false;
+        LocalDate currentDate = LocalDate.now(ZoneId.of("Asia/Singapore"));
+        if (epochDay != UNKNOWN_EPOCH_DAY) {
+            return epochDay < currentDate.toEpochDay();
         }
-    }
-
-    private static boolean isLeapYear(int year) {
-        return (year % 4 == 0) && (year % 100 != 0 || year % 400 == 0);
+        // a date that does not exist is compared field by field
+        if (year != currentDate.getYear()) {
+            return year < currentDate.getYear();
+        }
+        if (month != currentDate.getMonthValue()) {
+            return month < currentDate.getMonthValue();
+        }
+        return day < currentDate.getDayOfMonth();
     }
 
     public String getInvalidReason() {
@@ -142,7 +113,7 @@ public class Date {
             return "Date is valid.";
         }
         String reason;
-        if (!isCorrectFormat()) {
+        if (!isCorrectFormat) {
             reason = MESSAGE_DATE_INVALID_FORMAT_CONSTRAINTS;
         } else if (isInThePast()) {
             reason = MESSAGE_DATE_INVALID_IN_THE_PAST + date;
@@ -169,6 +140,22 @@ public class Date {
         return new Date(currentDate);
     }
 
+    /**
+     * Orders dates chronologically. Dates that do not exist on the calendar come first, ordered by their string.
+     */
+    @Override
+    public int compareTo(Date otherDate) {
+        int result = Integer.compare(epochDay, otherDate.epochDay);
+        if (result == 0 && epochDay == UNKNOWN_EPOCH_DAY) {
+            return date.compareTo(otherDate.date);
+        }
+        return result;
+    }
+
+    /**
+     * Returns true if both dates denote the same calendar day, e.g. 1.2.2030 and 01.02.2030.
+     * Dates that do not exist on the calendar are only equal if their strings are equal.
+     */
     @Override
     public boolean equals(Object obj) {
         if (this == obj) {
@@ -176,12 +163,18 @@ public class Date {
         }
         if (obj instanceof Date) {
             Date otherDate = (Date) obj;
-            return date.equals(otherDate.date);
+            return epochDay == otherDate.epochDay
+                    && (epochDay != UNKNOWN_EPOCH_DAY || date.equals(otherDate.date));
         } else {
             return false;
         }
     }
 
+    @Override
+    public int hashCode() {
+        return epochDay != UNKNOWN_EPOCH_DAY ? epochDay : date.hashCode();
+    }
+
     @Override
     public String toString() {
         return this.date;
@@ -3,6 +3,8 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+
 /**
  * Represents a Patient's NRIC in the address book.
  * Guarantees: details are present and not null, field values are validated, immutable.
@@ -19,7 +21,8 @@ public class Nric {
     private static final int NRIC_LENGTH = 9;
 
     public final String code;
-
+    /** The code in upper case, which nrics are compared and hashed by, as case is ignored */
+    private final String normalizedCode;
 
     /**
      * Constructs a {@code NRIC}.
@@ -30,13 +33,14 @@ public class Nric {
         requireNonNull(code);
         checkArgument(isValidNric(code));
         this.code = code;
+        normalizedCode = code.toUpperCase(Locale.ROOT);
     }
 
     /**
      * Checks that the given {@code code} is a valid nric code.
      */
     public static boolean isValidNric(String code) throws IllegalArgumentException {
-        String checkCode = code.toUpperCase();
+        String checkCode = code.toUpperCase(Locale.ROOT);
         return hasValidLength(checkCode) && hasValidFormat(checkCode) && passCheckSumAlgo(checkCode);
     }
 
@@ -228,11 +232,11 @@ public class Nric {
     public boolean equals(Object obj) {
         return obj == this // short circuit if same object
                 || (obj instanceof Nric // instanceof handles nulls
-                && code.equalsIgnoreCase(((Nric) obj).code)); // state check
+                && normalizedCode.equals(((Nric) obj).normalizedCode)); // state check
     }
 
     @Override
     public int hashCode() {
-        return code.hashCode();
+        return normalizedCode.hashCode();
     }
 }
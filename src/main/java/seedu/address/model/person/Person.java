@@ -28,6 +28,8 @@ public class Person {
     private final Set<Tag> tags = new HashSet<>();
     private Appointment appointment = new Appointment("");
     private ArrayList<Appointment> appointmentList = new ArrayList<>();
+    private AppointmentIndex appointmentIndex;
+    private PersonSearchDocument searchDocument;
 
     /**
      * Every field must be present and not null.
@@ -106,13 +108,36 @@ public class Person {
      */
     public void clearAppointmentList() {
         appointmentList = new ArrayList<>();
+        appointmentIndex = null;
+    }
+
+    /**
+     * Returns an index over this person's appointments, building it on first use.
+     * The index is rebuilt if the appointment list has been modified in place since.
+     */
+    public AppointmentIndex getAppointmentIndex() {
+        if (appointmentIndex == null || appointmentIndex.size() != appointmentList.size()) {
+            appointmentIndex = new AppointmentIndex(appointmentList);
+        }
+        return appointmentIndex;
+    }
+
+    /**
+     * Returns the lower-cased texts of this person that search keywords are matched against, building them on
+     * first use.
+     */
+    public PersonSearchDocument getSearchDocument() {
+        if (searchDocument == null) {
+            searchDocument = new PersonSearchDocument(this);
+        }
+        return searchDocument;
     }
 
     /**
      * Checks for clash with the appointment that is to be scheduled.
      */
     public boolean hasClash(Appointment newAppointment) {
-        return AppointmentManager.isClash(appointmentList, newAppointment);
+        return AppointmentManager.isClash(getAppointmentIndex(), newAppointment);
     }
 
     /**
@@ -0,0 +1,122 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GLOBAL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MEDICAL_DEPARTMENT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MEDICAL_RECORD;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NRIC;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.logic.parser.Prefix;
+import seedu.address.model.doctor.Doctor;
+import seedu.address.model.patient.Patient;
+
+/**
+ * The lower-cased texts of a {@code Person} that search keywords are matched against, one list of texts per
+ * searchable prefix.
+ * Guarantees: immutable. As a person is immutable, its document is built once and kept by the person.
+ */
+public final class PersonSearchDocument {
+
+    /** The prefixes whose keywords are matched against the attributes of a person */
+    public static final List<Prefix> SEARCHABLE_PREFIXES = List.of(PREFIX_GLOBAL, PREFIX_NAME, PREFIX_NRIC,
+            PREFIX_PHONE, PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_ROLE, PREFIX_TAG, PREFIX_MEDICAL_DEPARTMENT,
+            PREFIX_MEDICAL_RECORD);
+
+    private final Map<Prefix, List<String>> textsByPrefix = new HashMap<>();
+
+    /**
+     * Creates the search document of {@code person}.
+     */
+    public PersonSearchDocument(Person person) {
+        requireNonNull(person);
+        for (Prefix prefix : SEARCHABLE_PREFIXES) {
+            List<String> texts = getSearchTexts(prefix, person);
+            List<String> normalizedTexts = new ArrayList<>(texts.size());
+            for (String text : texts) {
+                normalizedTexts.add(text.toLowerCase());
+            }
+            textsByPrefix.put(prefix, Collections.unmodifiableList(normalizedTexts));
+        }
+    }
+
+    /**
+     * Returns the lower-cased texts that the keywords of {@code prefix} are matched against.
+     * The list is empty if the person has no such attribute, e.g. the medical department of a patient.
+     */
+    public List<String> getTexts(Prefix prefix) {
+        return textsByPrefix.getOrDefault(prefix, Collections.emptyList());
+    }
+
+    /**
+     * Returns the texts of {@code person} that the keywords of {@code prefix} are matched against.
+     */
+    private static List<String> getSearchTexts(Prefix prefix, Person person) {
+        if (prefix.equals(PREFIX_GLOBAL)) {
+            return Collections.singletonList(getGlobalSearchText(person));
+        } else if (prefix.equals(PREFIX_NAME)) {
+            return Collections.singletonList(person.getName().toString());
+        } else if (prefix.equals(PREFIX_NRIC)) {
+            return Collections.singletonList(person.getNric().toString());
+        } else if (prefix.equals(PREFIX_PHONE)) {
+            return Collections.singletonList(person.getPhone().toString());
+        } else if (prefix.equals(PREFIX_EMAIL)) {
+            return Collections.singletonList(person.getEmail().toString());
+        } else if (prefix.equals(PREFIX_ADDRESS)) {
+            return Collections.singletonList(person.getAddress().toString());
+        } else if (prefix.equals(PREFIX_ROLE)) {
+            return Collections.singletonList(person.getClass().getSimpleName());
+        } else if (prefix.equals(PREFIX_TAG)) {
+            return Collections.singletonList(person.getTags().toString());
+        } else if (prefix.equals(PREFIX_MEDICAL_DEPARTMENT)) {
+            return person instanceof Doctor
+                    ? Collections.singletonList(((Doctor) person).getMedicalDepartment().toString())
+                    : Collections.emptyList();
+        } else if (prefix.equals(PREFIX_MEDICAL_RECORD)) {
+            return person instanceof Patient
+                    ? ((Patient) person).getMedicalRecordKeywords()
+                    : Collections.emptyList();
+        }
+        return Collections.emptyList();
+    }
+
+    /**
+     * Returns all the searchable attributes of {@code person} in a single text, with commas replaced by spaces.
+     */
+    private static String getGlobalSearchText(Person person) {
+        final StringBuilder builder = new StringBuilder();
+
+        builder.append(person.getName()).append(" ")
+                .append(person.getNric()).append(" ")
+                .append(person.getPhone()).append(" ")
+                .append(person.getEmail()).append(" ")
+                .append(person.getAddress().toString().replaceAll(",", "")).append(" ")
+                .append(person.getClass().getSimpleName()).append(" ");
+        person.getTags().stream()
+                .map(x -> x.toString().replaceAll("[\\[\\]]", ""))
+                .map(x -> x + " ")
+                .forEach(builder::append);
+
+        if (person instanceof Doctor) {
+            builder.append(((Doctor) person).getMedicalDepartment()).append(" ");
+        } else if (person instanceof Patient) {
+            builder.append(person.getNric()).append(" ");
+            for (String s : ((Patient) person).getMedicalRecordKeywords()) {
+                builder.append(s + " ");
+            }
+        }
+
+        return builder.toString().replaceAll(",", " ");
+    }
+}
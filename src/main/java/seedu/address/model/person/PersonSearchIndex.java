@@ -0,0 +1,302 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import seedu.address.logic.parser.Prefix;
+
+/**
+ * An index of the trigrams, i.e. the substrings of three characters, of the lower-cased text of each searchable
+ * attribute of a person.
+ *
+ * Every indexed person is given an id, and the ids of the persons whose attribute contains a trigram are kept in a
+ * sorted {@code int} array. A keyword can only be contained in an attribute if every trigram of the keyword is, so a
+ * {@code PersonContainsKeywordsPredicate} is narrowed down to a few candidates by intersecting the arrays of the
+ * trigrams of each keyword. Only the candidates are then tested against the predicate itself, so the results are
+ * exactly those of the predicate. Keywords shorter than a trigram do not narrow down the candidates.
+ */
+public class PersonSearchIndex {
+
+    private static final int GRAM_LENGTH = 3;
+    private static final int[] NO_IDS = new int[0];
+
+    private final Map<Nric, Person> indexedPersons = new HashMap<>();
+    private final Map<Nric, Integer> idsByNric = new HashMap<>();
+    /** The person with each id, or null if the person has been removed since the id was given */
+    private final List<Person> personsById = new ArrayList<>();
+    private final Map<Prefix, Map<Long, PostingList>> postingsByPrefix = new HashMap<>();
+    private int modificationCount;
+
+    public PersonSearchIndex() {}
+
+    /**
+     * Creates an index of the persons in {@code persons}.
+     */
+    public PersonSearchIndex(List<Person> persons) {
+        requireNonNull(persons);
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Adds the attributes of {@code person} to the index.
+     * A person with the same {@code Nric} must not be in the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        int id = personsById.size();
+        personsById.add(person);
+        idsByNric.put(person.getNric(), id);
+        indexedPersons.put(person.getNric(), person);
+        PersonSearchDocument document = person.getSearchDocument();
+        for (Prefix prefix : PersonSearchDocument.SEARCHABLE_PREFIXES) {
+            Map<Long, PostingList> postings = postingsByPrefix.computeIfAbsent(prefix, unused -> new HashMap<>());
+            for (String normalizedText : document.getTexts(prefix)) {
+                for (int i = 0; i + GRAM_LENGTH <= normalizedText.length(); i++) {
+                    postings.computeIfAbsent(trigramAt(normalizedText, i), unused -> new PostingList()).add(id);
+                }
+            }
+        }
+        modificationCount++;
+    }
+
+    /**
+     * Replaces the attributes of {@code target} in the index with those of {@code editedPerson}.
+     */
+    public void update(Person target, Person editedPerson) {
+        remove(target.getNric());
+        add(editedPerson);
+    }
+
+    /**
+     * Removes the person with {@code nric}, if any, from the index.
+     * The id of the person stays in the posting lists until there are more removed ids than indexed persons, at which
+     * point the index is rebuilt.
+     */
+    public void remove(Nric nric) {
+        Integer id = idsByNric.remove(nric);
+        if (id == null) {
+            return;
+        }
+        indexedPersons.remove(nric);
+        personsById.set(id, null);
+        modificationCount++;
+
+        if (personsById.size() - indexedPersons.size() > indexedPersons.size()) {
+            rebuild();
+        }
+    }
+
+    /**
+     * Returns the {@code Nric}s of the indexed persons that match {@code predicate}.
+     */
+    public Set<Nric> find(PersonContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        int[] candidates = null; // null stands for every indexed person
+        for (Map.Entry<Prefix, List<String>> entry : predicate.getPersonSearchKeywords().entrySet()) {
+            if (!PersonSearchDocument.SEARCHABLE_PREFIXES.contains(entry.getKey())) {
+                continue;
+            }
+
+            // a person matches a prefix if any of its keywords matches
+            int[] prefixCandidates = NO_IDS;
+            for (String keyword : entry.getValue()) {
+                prefixCandidates = union(prefixCandidates, findCandidates(entry.getKey(), keyword));
+            }
+            // and a person matches the predicate if it matches every prefix
+            candidates = intersect(candidates, prefixCandidates);
+        }
+
+        Set<Nric> matches = new HashSet<>();
+        int candidateCount = candidates == null ? personsById.size() : candidates.length;
+        for (int i = 0; i < candidateCount; i++) {
+            Person person = personsById.get(candidates == null ? i : candidates[i]);
+            if (person != null && predicate.test(person)) {
+                matches.add(person.getNric());
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns a predicate that gives the same results as {@code predicate}.
+     * The matching persons are looked up in this index once per change to the index, and persons that this index
+     * does not hold, e.g. a person that was edited after the index was last updated, are tested against
+     * {@code predicate} directly. The predicate may be tested from several threads at once, as long as the index is
+     * not changed meanwhile.
+     */
+    public Predicate<Person> asIndexedPredicate(PersonContainsKeywordsPredicate predicate) {
+        requireNonNull(predicate);
+        return new Predicate<Person>() {
+            private volatile Set<Nric> matches;
+            private volatile int matchesModificationCount;
+
+            @Override
+            public boolean test(Person person) {
+                if (indexedPersons.get(person.getNric()) != person) {
+                    return predicate.test(person);
+                }
+                return getMatches().contains(person.getNric());
+            }
+
+            private Set<Nric> getMatches() {
+                // the matches are written before their modification count, so a current count means current matches
+                if (matchesModificationCount == modificationCount && matches != null) {
+                    return matches;
+                }
+                synchronized (this) {
+                    if (matchesModificationCount != modificationCount || matches == null) {
+                        matches = find(predicate);
+                        matchesModificationCount = modificationCount;
+                    }
+                    return matches;
+                }
+            }
+        };
+    }
+
+    /**
+     * Returns the sorted ids of the persons with an attribute of {@code prefix} that may contain {@code keyword},
+     * or null if {@code keyword} is too short to rule out any person.
+     */
+    private int[] findCandidates(Prefix prefix, String keyword) {
+        String normalizedKeyword = keyword.trim().toLowerCase();
+        if (normalizedKeyword.length() < GRAM_LENGTH) {
+            return null;
+        }
+
+        Map<Long, PostingList> postings = postingsByPrefix.getOrDefault(prefix, Collections.emptyMap());
+        List<PostingList> keywordPostings = new ArrayList<>();
+        for (int i = 0; i + GRAM_LENGTH <= normalizedKeyword.length(); i++) {
+            PostingList posting = postings.get(trigramAt(normalizedKeyword, i));
+            if (posting == null) {
+                return NO_IDS;
+            }
+            keywordPostings.add(posting);
+        }
+
+        // intersecting the shortest posting lists first keeps the intermediate results small
+        keywordPostings.sort(Comparator.comparingInt(posting -> posting.size));
+        int[] candidates = keywordPostings.get(0).toArray();
+        for (int i = 1; i < keywordPostings.size() && candidates.length > 0; i++) {
+            candidates = intersect(candidates, keywordPostings.get(i).ids, keywordPostings.get(i).size);
+        }
+        return candidates;
+    }
+
+    /**
+     * Rebuilds the index from the indexed persons, dropping the ids of the removed persons.
+     */
+    private void rebuild() {
+        List<Person> persons = new ArrayList<>();
+        for (Person person : personsById) {
+            if (person != null) {
+                persons.add(person);
+            }
+        }
+        indexedPersons.clear();
+        idsByNric.clear();
+        personsById.clear();
+        postingsByPrefix.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the three characters of {@code text} starting at {@code index}, packed into a {@code long}.
+     */
+    private static long trigramAt(String text, int index) {
+        return ((long) text.charAt(index) << 32) | ((long) text.charAt(index + 1) << 16) | text.charAt(index + 2);
+    }
+
+    /**
+     * Returns the sorted ids in either {@code first} or {@code second}, where null stands for every id.
+     */
+    private static int[] union(int[] first, int[] second) {
+        if (first == null || second == null) {
+            return null;
+        }
+        int[] result = new int[first.length + second.length];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < first.length || j < second.length) {
+            if (j == second.length || (i < first.length && first[i] < second[j])) {
+                result[size++] = first[i++];
+            } else if (i == first.length || second[j] < first[i]) {
+                result[size++] = second[j++];
+            } else {
+                result[size++] = first[i++];
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    /**
+     * Returns the sorted ids in both {@code first} and {@code second}, where null stands for every id.
+     */
+    private static int[] intersect(int[] first, int[] second) {
+        if (first == null) {
+            return second;
+        } else if (second == null) {
+            return first;
+        }
+        return intersect(first, second, second.length);
+    }
+
+    /**
+     * Returns the sorted ids in both {@code first} and the first {@code secondLength} ids of {@code second}.
+     */
+    private static int[] intersect(int[] first, int[] second, int secondLength) {
+        int[] result = new int[Math.min(first.length, secondLength)];
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < first.length && j < secondLength) {
+            if (first[i] < second[j]) {
+                i++;
+            } else if (second[j] < first[i]) {
+                j++;
+            } else {
+                result[size++] = first[i++];
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, size);
+    }
+
+    /**
+     * A growable, sorted array of the ids of the persons with a trigram.
+     * Ids are only ever added in increasing order, as every added person is given a larger id than the ones before.
+     */
+    private static class PostingList {
+        private int[] ids = new int[4];
+        private int size;
+
+        /**
+         * Adds {@code id}, which must not be smaller than any id in the list, unless it is already the last id.
+         */
+        void add(int id) {
+            if (size > 0 && ids[size - 1] == id) {
+                return;
+            }
+            if (size == ids.length) {
+                ids = Arrays.copyOf(ids, size * 2);
+            }
+            ids[size++] = id;
+        }
+
+        int[] toArray() {
+            return Arrays.copyOf(ids, size);
+        }
+    }
+}
@@ -2,9 +2,12 @@ package seedu.address.model.person;
 
 import java.time.ZoneId;
 import java.time.ZonedDateTime;
+import java.util.Objects;
 
 /**
  * Represents a time in the address book.
+ * Times that exist on the clock are also kept as a minute of the day, so that comparing and hashing them
+ * does not need to parse the string representation again.
  */
 public class Time {
 
@@ -17,11 +20,48 @@ public class Time {
             + " e.g. 1330 represents 1:30 pm. ";
     public static final String MESSAGE_TIME_INVALID_DOES_NOT_EXIST = "This time does not exist: ";
 
+    /** Marks a time that is not in the correct format or does not exist on the clock */
+    private static final int UNKNOWN_MINUTE_OF_DAY = Integer.MIN_VALUE;
+
     /** String representation of the time **/
     private String time;
+    /** Minutes since midnight, or {@code UNKNOWN_MINUTE_OF_DAY} */
+    private final int minuteOfDay;
 
     public Time(String time) {
         this.time = time;
+        this.minuteOfDay = toMinuteOfDay(time);
+    }
+
+    /**
+     * Returns the minute of the day of {@code time}, or {@code UNKNOWN_MINUTE_OF_DAY} if it is not a time on the clock.
+     */
+    private static int toMinuteOfDay(String time) {
+        if (time == null || time.length() != 4) {
+            return UNKNOWN_MINUTE_OF_DAY;
+        }
+        for (int i = 0; i < 4; i++) {
+            if (!Character.isDigit(time.charAt(i))) {
+                return UNKNOWN_MINUTE_OF_DAY;
+            }
+        }
+        int hour = (time.charAt(0) - '0') * 10 + (time.charAt(1) - '0');
+        int minute = (time.charAt(2) - '0') * 10 + (time.charAt(3) - '0');
+        if (hour > 23 || minute > 59) {
+            return UNKNOWN_MINUTE_OF_DAY;
+        }
+        return hour * 60 + minute;
+    }
+
+    /**
+     * Compares this time with {@code otherTiming}, falling back to parsing the HHMM strings
+     * only if either time is not on the clock.
+     */
+    private int compareWith(Time otherTiming) {
+        if (minuteOfDay != UNKNOWN_MINUTE_OF_DAY && otherTiming.minuteOfDay != UNKNOWN_MINUTE_OF_DAY) {
+            return Integer.compare(minuteOfDay, otherTiming.minuteOfDay);
+        }
+        return Integer.compare(Integer.parseInt(time.trim()), Integer.parseInt(otherTiming.time.trim()));
     }
 
     /**
@@ -33,9 +73,7 @@ public class Time {
      * @return boolean stating if current time comes before otherTiming
      */
     public boolean comesBefore(Time otherTiming) {
-        int currentTime = Integer.parseInt(time.trim());
-        int otherTime = Integer.parseInt(otherTiming.time.trim());
-        return (currentTime <= otherTime);
+        return compareWith(otherTiming) <= 0;
     }
 
     /**
@@ -47,9 +85,7 @@ public class Time {
      * @return oolean stating if current time comes after otherTiming
      */
     public boolean comesAfter(Time otherTiming) {
-        int currentTime = Integer.parseInt(time.trim());
-        int otherTime = Integer.parseInt(otherTiming.time.trim());
-        return (currentTime >= otherTime);
+        return compareWith(otherTiming) >= 0;
     }
 
     /**
@@ -61,9 +97,19 @@ public class Time {
      * @return boolean stating if current time comes before otherTiming
      */
     public boolean comesStrictlyBefore(Time otherTiming) {
-        int currentTime = Integer.parseInt(time.trim());
-        int otherTime = Integer.parseInt(otherTiming.time.trim());
-        return (currentTime < otherTime);
+        return compareWith(otherTiming) < 0;
+    }
+
+    /**
+     * Returns the number of minutes since midnight represented by this time, e.g. 1330 gives 810.
+     * The ordering of the result agrees with {@link #comesBefore(Time)} for valid times.
+     */
+    public int getMinuteOfDay() {
+        if (minuteOfDay != UNKNOWN_MINUTE_OF_DAY) {
+            return minuteOfDay;
+        }
+        int hourAndMinute = Integer.parseInt(time.trim());
+        return (hourAndMinute / 100) * 60 + hourAndMinute % 100;
     }
 
     /**
@@ -137,9 +183,15 @@ public class Time {
         }
         if (obj instanceof Time) {
             Time otherTime = (Time) obj;
-            return time.equals(otherTime.time);
+            return minuteOfDay == otherTime.minuteOfDay
+                    && (minuteOfDay != UNKNOWN_MINUTE_OF_DAY || Objects.equals(time, otherTime.time));
         } else {
             return false;
         }
     }
+
+    @Override
+    public int hashCode() {
+        return minuteOfDay != UNKNOWN_MINUTE_OF_DAY ? minuteOfDay : Objects.hashCode(time);
+    }
 }
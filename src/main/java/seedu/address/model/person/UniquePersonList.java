@@ -3,12 +3,18 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
 import seedu.address.model.doctor.Doctor;
 import seedu.address.model.patient.Patient;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
@@ -23,18 +29,28 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * A secondary index from each person's {@code Nric} to its position in the backing list is kept in sync by every
+ * mutating operation, so that identity lookups do not need to scan the whole list.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
 
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+    private final Map<Nric, Integer> nricIndex = new HashMap<>();
+    /** Shared by every caller, as each new unmodifiable view adds a listener to the list that it wraps */
+    private final ObservableList<Person> unmodifiableInternalList =
+            FXCollections.unmodifiableObservableList(internalList);
+
+    private ObservableList<Person> patientList;
+    private ObservableList<Person> doctorList;
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return nricIndex.containsKey(toCheck.getNric());
     }
 
     /**
@@ -42,7 +58,7 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean hasSuchPerson(Name name, Nric nric) {
         requireAllNonNull(name, nric);
-        return internalList.stream().anyMatch(person -> person.getName().equals(name) && person.getNric().equals(nric));
+        return getPerson(nric).filter(person -> person.getName().equals(name)).isPresent();
     }
 
     /**
@@ -50,8 +66,8 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean hasSuchPatient(Name name, Nric nric) {
         requireAllNonNull(name, nric);
-        return internalList.stream().anyMatch(person -> person.getName().equals(name)
-                && person.getNric().equals(nric) && (person instanceof Patient));
+        return getPerson(nric).filter(person -> person.getName().equals(name) && (person instanceof Patient))
+                .isPresent();
     }
 
     /**
@@ -59,8 +75,8 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public boolean hasSuchDoctor(Name name, Nric nric) {
         requireAllNonNull(name, nric);
-        return internalList.stream().anyMatch(person -> person.getName().equals(name)
-                && person.getNric().equals(nric) && (person instanceof Doctor));
+        return getPerson(nric).filter(person -> person.getName().equals(name) && (person instanceof Doctor))
+                .isPresent();
     }
 
     /**
@@ -68,7 +84,8 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public Optional<Person> getPerson(Nric nric) {
         requireNonNull(nric);
-        return internalList.stream().filter(person -> person.getNric().equals(nric)).findAny();
+        Integer index = nricIndex.get(nric);
+        return index == null ? Optional.empty() : Optional.of(internalList.get(index));
     }
 
     /**
@@ -80,9 +97,23 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        nricIndex.put(toAdd.getNric(), internalList.size());
         internalList.add(toAdd);
     }
 
+    /**
+     * Inserts a person into the list at position {@code index}.
+     * The person must not already exist in the list.
+     */
+    public void add(int index, Person toAdd) {
+        requireNonNull(toAdd);
+        if (contains(toAdd)) {
+            throw new DuplicatePersonException();
+        }
+        internalList.add(index, toAdd);
+        reindexFrom(index);
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
@@ -91,7 +122,7 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -100,6 +131,8 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
+        nricIndex.remove(internalList.get(index).getNric());
+        nricIndex.put(editedPerson.getNric(), index);
         internalList.set(index, editedPerson);
     }
 
@@ -109,13 +142,47 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        nricIndex.remove(toRemove.getNric());
+        internalList.remove(index);
+        reindexFrom(index);
     }
 
+    /**
+     * Removes the equivalent persons of {@code toRemove} from the list with a single change to the backing list.
+     * Every person must exist in the list, otherwise the list is left unchanged.
+     */
+    public void removeAll(Collection<Person> toRemove) {
+        requireAllNonNull(toRemove);
+        BitSet removedIndices = new BitSet(internalList.size());
+        for (Person person : toRemove) {
+            int index = indexOf(person);
+            if (index == -1) {
+                throw new PersonNotFoundException();
+            }
+            removedIndices.set(index);
+        }
+
+        List<Person> remainingPersons = new ArrayList<>(internalList.size() - removedIndices.cardinality());
+        for (int i = removedIndices.nextClearBit(0); i < internalList.size(); i = removedIndices.nextClearBit(i + 1)) {
+            remainingPersons.add(internalList.get(i));
+        }
+        nricIndex.clear();
+        internalList.setAll(remainingPersons);
+        reindexFrom(0);
+    }
+
+    /**
+     * Replaces the contents of this list with the contents of {@code replacement}.
+     */
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        nricIndex.clear();
+        nricIndex.putAll(replacement.nricIndex);
         internalList.setAll(replacement.internalList);
     }
 
@@ -125,10 +192,13 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
+        Map<Nric, Integer> replacementIndex = indexByNric(persons);
+        if (replacementIndex == null) {
             throw new DuplicatePersonException();
         }
 
+        nricIndex.clear();
+        nricIndex.putAll(replacementIndex);
         internalList.setAll(persons);
     }
 
@@ -136,12 +206,36 @@ public class UniquePersonList implements Iterable<Person> {
      * Returns the backing list as an unmodifiable {@code ObservableList}.
      */
     public ObservableList<Person> asUnmodifiableObservableList() {
-        return FXCollections.unmodifiableObservableList(internalList);
+        return unmodifiableInternalList;
+    }
+
+    /**
+     * Returns an unmodifiable view of the patients in the backing list, in list order.
+     * The view is kept up to date as the list changes.
+     */
+    public synchronized ObservableList<Person> asUnmodifiablePatientList() {
+        if (patientList == null) {
+            patientList = FXCollections.unmodifiableObservableList(
+                    new FilteredList<>(internalList, person -> person instanceof Patient));
+        }
+        return patientList;
+    }
+
+    /**
+     * Returns an unmodifiable view of the doctors in the backing list, in list order.
+     * The view is kept up to date as the list changes.
+     */
+    public synchronized ObservableList<Person> asUnmodifiableDoctorList() {
+        if (doctorList == null) {
+            doctorList = FXCollections.unmodifiableObservableList(
+                    new FilteredList<>(internalList, person -> person instanceof Doctor));
+        }
+        return doctorList;
     }
 
     @Override
     public Iterator<Person> iterator() {
-        return internalList.iterator();
+        return asUnmodifiableObservableList().iterator();
     }
 
     @Override
@@ -157,16 +251,38 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns the position of the person in the list that is equal to {@code person},
+     * or -1 if there is no such person.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        Integer index = nricIndex.get(person.getNric());
+        if (index == null || !internalList.get(index).equals(person)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Refreshes the positions recorded in the index for every person from {@code start} onwards.
+     */
+    private void reindexFrom(int start) {
+        for (int i = start; i < internalList.size(); i++) {
+            nricIndex.put(internalList.get(i).getNric(), i);
+        }
+    }
+
+    /**
+     * Returns the position of every person in {@code persons} keyed by their {@code Nric},
+     * or null if {@code persons} contains duplicate persons.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static Map<Nric, Integer> indexByNric(List<Person> persons) {
+        Map<Nric, Integer> index = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            if (index.put(persons.get(i).getNric(), i) != null) {
+                return null;
             }
         }
-        return true;
+        return index;
     }
 }
@@ -0,0 +1,402 @@
+package seedu.address.server;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Logger;
+
+import com.google.common.eventbus.Subscribe;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.ComponentManager;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Serves the logic component of the app over HTTP, so that several terminals can share one address book.
+ *
+ * {@code POST /commands} executes the command in the body of the request, as if it were entered in the command box,
+ * and responds with the feedback of the command and the persons listed after it. Each client, named by the
+ * {@code X-Client-Id} header of its requests, has a logic and a client model of its own, so that it lists persons,
+ * switches databases and enters intuitive commands without affecting the other clients. The commands of a client are
+ * executed one at a time on the threads that receive them. The commands of different clients that only read the
+ * address book are executed at the same time, while the others wait for the write lock of the model.
+ * At most {@code maxClientCount} clients are kept. When a client that is not kept yet makes a request, the clients
+ * that have made no request for {@code clientIdleTimeoutNanos} are released, and the request is refused if there is
+ * still no room for another client.
+ * {@code GET /persons} responds with every person in the address book, or only the person with the nric given by the
+ * {@code nric} query parameter, from a copy of the persons taken whenever the address book changes, so reads are
+ * never held up by commands.
+ */
+public class CommandServer extends ComponentManager {
+    public static final String COMMANDS_PATH = "/commands";
+    public static final String PERSONS_PATH = "/persons";
+    public static final String NRIC_PARAMETER = "nric";
+    public static final String CLIENT_ID_HEADER = "X-Client-Id";
+    /** The client that requests without the {@code X-Client-Id} header are made by */
+    public static final String DEFAULT_CLIENT_ID = "default";
+    public static final int MAX_CLIENT_ID_LENGTH = 64;
+    public static final int DEFAULT_MAX_CLIENT_COUNT = 32;
+    public static final long DEFAULT_CLIENT_IDLE_TIMEOUT_NANOS = TimeUnit.MINUTES.toNanos(30);
+
+    private static final int HTTP_OK = 200;
+    private static final int HTTP_BAD_REQUEST = 400;
+    private static final int HTTP_NOT_FOUND = 404;
+    private static final int HTTP_BAD_METHOD = 405;
+    private static final int HTTP_INTERNAL_ERROR = 500;
+    private static final int HTTP_UNAVAILABLE = 503;
+    private static final int REQUEST_THREAD_COUNT = 8;
+
+    private static final Logger logger = LogsCenter.getLogger(CommandServer.class);
+
+    private final Model model;
+    private final int maxClientCount;
+    private final long clientIdleTimeoutNanos;
+    /** The clients by id. Clients are only added and released holding the lock of this map */
+    private final Map<String, Client> clients = new ConcurrentHashMap<>();
+    private final HttpServer httpServer;
+    private final ExecutorService requestExecutor = Executors.newFixedThreadPool(REQUEST_THREAD_COUNT, runnable -> {
+        Thread thread = new Thread(runnable, "Server request");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private volatile List<Person> persons = Collections.emptyList();
+
+    /**
+     * Creates a server that executes commands on client models of {@code model}, once it is started.
+     * {@code address} may have port 0, for any free port.
+     */
+    public CommandServer(Model model, InetSocketAddress address) throws IOException {
+        this(model, address, DEFAULT_MAX_CLIENT_COUNT, DEFAULT_CLIENT_IDLE_TIMEOUT_NANOS);
+    }
+
+    /**
+     * Creates a server that keeps at most {@code maxClientCount} clients, and releases the clients that have been
+     * idle for {@code clientIdleTimeoutNanos} to make room for another client.
+     */
+    CommandServer(Model model, InetSocketAddress address, int maxClientCount, long clientIdleTimeoutNanos)
+            throws IOException {
+        super();
+        requireNonNull(model);
+        requireNonNull(address);
+        assert maxClientCount > 0 && clientIdleTimeoutNanos >= 0;
+        this.model = model;
+        this.maxClientCount = maxClientCount;
+        this.clientIdleTimeoutNanos = clientIdleTimeoutNanos;
+        httpServer = HttpServer.create();
+        httpServer.bind(address, 0);
+        httpServer.createContext(COMMANDS_PATH, this::handleCommandRequest);
+        httpServer.createContext(PERSONS_PATH, this::handlePersonsRequest);
+        httpServer.setExecutor(requestExecutor);
+    }
+
+    /**
+     * Waits for the initial data of the model to be loaded, and then starts accepting requests.
+     */
+    public void start() {
+        model.awaitInitialData();
+        persons = copyOf(model.getAddressBook().getPersonList());
+        httpServer.start();
+        logger.info("Accepting requests on " + getAddress());
+    }
+
+    /**
+     * Stops accepting requests, waits for the commands that have been received to be executed, and releases every
+     * client.
+     */
+    public void stop() {
+        httpServer.stop(0);
+        requestExecutor.shutdown();
+        try {
+            requestExecutor.awaitTermination(1, TimeUnit.MINUTES);
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        }
+        synchronized (clients) {
+            clients.values().forEach(this::releaseClient);
+            clients.clear();
+        }
+        eventsCenter.unregisterHandler(this);
+    }
+
+    public InetSocketAddress getAddress() {
+        return httpServer.getAddress();
+    }
+
+    @Subscribe
+    public void handleAddressBookChangedEvent(AddressBookChangedEvent event) {
+        // Raised while the write lock is held by the thread that changed the address book.
+        persons = Collections.unmodifiableList(new ArrayList<>(event.data.getPersonList()));
+    }
+
+    private void handleCommandRequest(HttpExchange exchange) throws IOException {
+        if (!exchange.getRequestMethod().equals("POST")) {
+            respond(exchange, HTTP_BAD_METHOD, "Commands must be sent with POST");
+            return;
+        }
+
+        String commandText = readBody(exchange.getRequestBody()).trim();
+        String clientId = exchange.getRequestHeaders().getFirst(CLIENT_ID_HEADER);
+        if (clientId != null && clientId.length() > MAX_CLIENT_ID_LENGTH) {
+            respond(exchange, HTTP_BAD_REQUEST, "Client ids must have at most " + MAX_CLIENT_ID_LENGTH
+                    + " characters");
+            return;
+        }
+        Response response;
+        try {
+            response = executeCommandOfClient(clientId == null ? DEFAULT_CLIENT_ID : clientId, commandText);
+        } catch (RuntimeException e) {
+            logger.warning("Failed to execute " + commandText + " : " + StringUtil.getDetails(e));
+            response = new Response(HTTP_INTERNAL_ERROR, "Failed to execute the command");
+        }
+        respond(exchange, response.status, response.body);
+    }
+
+    private void handlePersonsRequest(HttpExchange exchange) throws IOException {
+        if (!exchange.getRequestMethod().equals("GET")) {
+            respond(exchange, HTTP_BAD_METHOD, "Persons must be read with GET");
+            return;
+        }
+
+        String nric = getQueryParameter(exchange.getRequestURI().getRawQuery(), NRIC_PARAMETER);
+        StringBuilder body = new StringBuilder();
+        for (Person person : persons) {
+            if (nric == null || person.getNric().toString().equalsIgnoreCase(nric)) {
+                body.append(person).append("\n");
+            }
+        }
+        if (nric != null && body.length() == 0) {
+            respond(exchange, HTTP_NOT_FOUND, "No person has the nric " + nric);
+            return;
+        }
+        respond(exchange, HTTP_OK, body.toString());
+    }
+
+    /**
+     * Executes {@code commandText} as the client with {@code clientId} and returns the response to it.
+     */
+    private Response executeCommandOfClient(String clientId, String commandText) {
+        while (true) {
+            Client client = getClient(clientId);
+            if (client == null) {
+                return new Response(HTTP_UNAVAILABLE, "Too many clients, try again later");
+            }
+            // the commands of a client are executed in turn, as its logic keeps the state of its intuitive command
+            client.lock.lock();
+            try {
+                if (!client.isReleased) {
+                    try {
+                        return executeCommand(client.logic, commandText);
+                    } finally {
+                        client.lastRequestTime = System.nanoTime();
+                    }
+                }
+            } finally {
+                client.lock.unlock();
+            }
+            // the client was released as idle after it was looked up, so it is created again
+        }
+    }
+
+    /**
+     * Returns the client with {@code clientId}, creating it if there is none, or null if there is no room for
+     * another client once the idle clients have been released.
+     */
+    private Client getClient(String clientId) {
+        Client client = clients.get(clientId);
+        if (client != null) {
+            return client;
+        }
+        synchronized (clients) {
+            client = clients.get(clientId);
+            if (client != null) {
+                return client;
+            }
+            releaseIdleClients();
+            if (clients.size() >= maxClientCount) {
+                logger.warning("Refused client " + clientId + ", as there are already " + clients.size() + " clients");
+                return null;
+            }
+            Model clientModel = model.createClientModel();
+            client = new Client(new LogicManager(clientModel), clientModel);
+            clients.put(clientId, client);
+            return client;
+        }
+    }
+
+    /**
+     * Releases the clients that have made no request for {@code clientIdleTimeoutNanos}, skipping those with a
+     * command being executed. Must be called holding the lock of the clients.
+     */
+    private void releaseIdleClients() {
+        long now = System.nanoTime();
+        Iterator<Map.Entry<String, Client>> entries = clients.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<String, Client> entry = entries.next();
+            Client client = entry.getValue();
+            if (!client.lock.tryLock()) {
+                continue;
+            }
+            try {
+                if (now - client.lastRequestTime >= clientIdleTimeoutNanos) {
+                    entries.remove();
+                    releaseClient(client);
+                    logger.info("Released idle client " + entry.getKey());
+                }
+            } finally {
+                client.lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Stops the logic of {@code client} and releases its client model, once no command of it is being executed.
+     */
+    private void releaseClient(Client client) {
+        client.lock.lock();
+        try {
+            client.isReleased = true;
+            client.logic.close();
+            client.clientModel.close();
+        } finally {
+            client.lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of clients that are kept.
+     */
+    int getClientCount() {
+        return clients.size();
+    }
+
+    /**
+     * Executes {@code commandText} with {@code logic} and returns the response to it.
+     */
+    private Response executeCommand(Logic logic, String commandText) {
+        CommandResult result;
+        try {
+            result = logic.execute(commandText);
+        } catch (CommandException | ParseException e) {
+            return new Response(HTTP_BAD_REQUEST, e.getMessage());
+        }
+
+        StringBuilder body = new StringBuilder(result.feedbackToUser).append("\n");
+        List<Person> listedPersons = copyOf(logic.getFilteredPersonList());
+        for (int i = 0; i < listedPersons.size(); i++) {
+            Person person = listedPersons.get(i);
+            body.append("\n").append(i + 1).append(". ").append(person.getName()).append(" ").append(person.getNric());
+        }
+        return new Response(HTTP_OK, body.toString());
+    }
+
+    /**
+     * Returns the decoded value of the parameter {@code name} in {@code rawQuery}, or null if it is not given.
+     */
+    private static String getQueryParameter(String rawQuery, String name) {
+        if (rawQuery == null) {
+            return null;
+        }
+        for (String parameter : rawQuery.split("&")) {
+            String[] nameAndValue = parameter.split("=", 2);
+            if (nameAndValue.length == 2 && nameAndValue[0].equals(name)) {
+                try {
+                    return URLDecoder.decode(nameAndValue[1], StandardCharsets.UTF_8.name());
+                } catch (UnsupportedEncodingException e) {
+                    throw new AssertionError("UTF-8 is always supported", e);
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Returns a copy of {@code persons}, a list backed by the address book of the model, taken under the read lock of
+     * the database so that the address book does not change meanwhile.
+     */
+    private List<Person> copyOf(List<Person> persons) {
+        Lock readLock = model.getDatabaseLock().readLock();
+        readLock.lock();
+        try {
+            return Collections.unmodifiableList(new ArrayList<>(persons));
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private static String readBody(InputStream body) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        int length;
+        while ((length = body.read(buffer)) != -1) {
+            bytes.write(buffer, 0, length);
+        }
+        return new String(bytes.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "text/plain; charset=utf-8");
+        // a length of -1 tells the client that there is no body
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        try (OutputStream responseBody = exchange.getResponseBody()) {
+            responseBody.write(bytes);
+        }
+    }
+
+    /**
+     * The logic and client model of a client. The fields other than the final ones are guarded by {@code lock}.
+     */
+    private static class Client {
+        private final Logic logic;
+        private final Model clientModel;
+        private final Lock lock = new ReentrantLock();
+        private long lastRequestTime = System.nanoTime();
+        private boolean isReleased;
+
+        Client(Logic logic, Model clientModel) {
+            this.logic = logic;
+            this.clientModel = clientModel;
+        }
+    }
+
+    /**
+     * The status and body of a response.
+     */
+    private static class Response {
+        private final int status;
+        private final String body;
+
+        Response(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+
+/**
+ * An append-only file of changes made to the persons of an address book.
+ * Each record either upserts a person, replacing the person with the same {@code Nric} in place or appending it,
+ * or removes the person with a given {@code Nric}. Replaying a record more than once has no further effect.
+ *
+ * Every record is stored as its length and CRC32 checksum followed by its content, so a record that was only
+ * partially written, e.g. because the application was killed while saving, is detected and ignored on replay.
+ * Such a record must be cut off with {@link #truncate(long)} before appending again, or the records appended after
+ * it would never be replayed.
+ */
+class AddressBookJournal {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookJournal.class);
+
+    private static final byte UPSERT = 1;
+    private static final byte REMOVE = 2;
+
+    /** The length and checksum written before the content of every record */
+    private static final int RECORD_HEADER_LENGTH = Integer.BYTES * 2;
+    /** Records longer than this can only come from a corrupted length field. */
+    private static final int MAX_RECORD_LENGTH = 1 << 24;
+
+    private final Path filePath;
+
+    AddressBookJournal(Path filePath) {
+        this.filePath = requireNonNull(filePath);
+    }
+
+    Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Appends records that remove the persons with {@code removedNrics} and then upsert {@code upsertedPersons},
+     * and forces them to the disk before returning.
+     */
+    void append(Collection<Nric> removedNrics, Collection<Person> upsertedPersons) throws IOException {
+        ByteArrayOutputStream records = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(records);
+        for (Nric nric : removedNrics) {
+            writeRecord(out, encodeRemoval(nric));
+        }
+        for (Person person : upsertedPersons) {
+            writeRecord(out, encodeUpsert(person));
+        }
+        out.flush();
+
+        FileUtil.createParentDirsOfFile(filePath);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.APPEND)) {
+            ByteBuffer buffer = ByteBuffer.wrap(records.toByteArray());
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Returns the size of the journal file in bytes, or 0 if it does not exist.
+     */
+    long size() throws IOException {
+        return Files.exists(filePath) ? Files.size(filePath) : 0;
+    }
+
+    boolean exists() {
+        return Files.exists(filePath);
+    }
+
+    /**
+     * Cuts the journal file off after its first {@code size} bytes, and forces the change to the disk.
+     */
+    void truncate(long size) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+            channel.truncate(size);
+            channel.force(false);
+        }
+    }
+
+    /**
+     * Applies the records in the journal file, if it exists, to {@code addressBook} in the order they were appended.
+     * Replay stops at the first record that was not completely written.
+     *
+     * @return the number of bytes taken by the records that were replayed, which is less than {@link #size()} if
+     *     replay stopped at an incomplete or corrupted record.
+     * @throws DataConversionException if a complete record holds invalid data.
+     */
+    long replay(AddressBook addressBook) throws DataConversionException, IOException {
+        if (!Files.exists(filePath)) {
+            return 0;
+        }
+
+        int replayedRecords = 0;
+        long replayedLength = 0;
+        try (InputStream fileIn = Files.newInputStream(filePath);
+             DataInputStream in = new DataInputStream(new BufferedInputStream(fileIn))) {
+            Optional<byte[]> record;
+            while ((record = readRecord(in)).isPresent()) {
+                applyRecord(addressBook, record.get());
+                replayedRecords++;
+                replayedLength += RECORD_HEADER_LENGTH + record.get().length;
+            }
+        }
+        logger.fine("Replayed " + replayedRecords + " records from " + filePath);
+        return replayedLength;
+    }
+
+    /**
+     * Returns the content of a record that removes the person with {@code nric}.
+     */
+    private static byte[] encodeRemoval(Nric nric) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(REMOVE);
+        out.writeUTF(nric.code);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Returns the content of a record that upserts {@code person}.
+     */
+    private static byte[] encodeUpsert(Person person) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeByte(UPSERT);
+        person.toXmlVersion(person).writeTo(out);
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Writes {@code content} to {@code out} framed by its length and checksum.
+     */
+    private static void writeRecord(DataOutputStream out, byte[] content) throws IOException {
+        out.writeInt(content.length);
+        out.writeInt(checksumOf(content));
+        out.write(content);
+    }
+
+    /**
+     * Returns the content of the next record in {@code in}, or an empty {@code Optional} if there are no more
+     * complete records.
+     */
+    private Optional<byte[]> readRecord(DataInputStream in) throws IOException {
+        int length;
+        try {
+            length = in.readInt();
+        } catch (EOFException eof) {
+            return Optional.empty();
+        }
+
+        try {
+            int checksum = in.readInt();
+            if (length < 0 || length > MAX_RECORD_LENGTH) {
+                logger.warning("Ignoring corrupted record at the end of " + filePath);
+                return Optional.empty();
+            }
+            byte[] content = new byte[length];
+            in.readFully(content);
+            if (checksumOf(content) != checksum) {
+                logger.warning("Ignoring corrupted record at the end of " + filePath);
+                return Optional.empty();
+            }
+            return Optional.of(content);
+        } catch (EOFException eof) {
+            logger.warning("Ignoring incomplete record at the end of " + filePath);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Applies the record with {@code content} to {@code addressBook}.
+     */
+    private void applyRecord(AddressBook addressBook, byte[] content) throws DataConversionException, IOException {
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(content));
+        byte type = in.readByte();
+        switch (type) {
+        case UPSERT:
+            Person person;
+            try {
+                person = XmlAdaptedPerson.readFrom(in).toModelType();
+            } catch (IllegalValueException ive) {
+                logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+                throw new DataConversionException(ive);
+            }
+            Optional<Person> existingPerson = addressBook.getPerson(person.getNric());
+            if (existingPerson.isPresent()) {
+                addressBook.updatePerson(existingPerson.get(), person);
+            } else {
+                addressBook.addPerson(person);
+            }
+            break;
+        case REMOVE:
+            String nric = in.readUTF();
+            if (!Nric.isValidNric(nric)) {
+                throw new DataConversionException(new IllegalValueException(Nric.MESSAGE_NRIC_CONSTRAINTS));
+            }
+            addressBook.getPerson(new Nric(nric)).ifPresent(addressBook::removePerson);
+            break;
+        default:
+            throw new DataConversionException(new IOException("Unknown record type " + type + " in " + filePath));
+        }
+    }
+
+    private static int checksumOf(byte[] content) {
+        CRC32 crc = new CRC32();
+        crc.update(content, 0, content.length);
+        return (int) crc.getValue();
+    }
+}
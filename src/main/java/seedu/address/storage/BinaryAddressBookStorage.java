@@ -0,0 +1,346 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a compact binary file on the hard disk.
+ *
+ * The file starts with a magic number and a format version, followed by a table of the distinct strings in the
+ * address book, the persons, and a CRC32 checksum of everything before it. Every string field is split at commas
+ * and stored as indices into the string table, so names, NRICs and departments that are repeated across persons and
+ * appointments are stored only once. Every person is prefixed with its length in bytes.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String BINARY_FILE_EXTENSION = ".bin";
+    public static final int FORMAT_VERSION = 1;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    static final int HEADER_SIZE = 8;
+    static final int CHECKSUM_SIZE = 4;
+
+    private static final int MAGIC_NUMBER = 0x4F4C4142; // "OLAB"
+    private static final String XML_FILE_EXTENSION = ".xml";
+    private static final String FIELD_SEPARATOR = ",";
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the binary file that corresponds to the xml file at {@code xmlFilePath}.
+     */
+    public static Path getBinaryFilePath(Path xmlFilePath) {
+        String fileName = xmlFilePath.getFileName().toString();
+        if (fileName.endsWith(XML_FILE_EXTENSION)) {
+            fileName = fileName.substring(0, fileName.length() - XML_FILE_EXTENSION.length());
+        }
+        return xmlFilePath.resolveSibling(fileName + BINARY_FILE_EXTENSION);
+    }
+
+    /**
+     * Reads the address book in {@code source} and saves it in the binary format to {@code target}.
+     * Every field of every person is kept, so reading {@code target} gives back the same address book.
+     *
+     * @throws FileNotFoundException if there is no address book in {@code source}.
+     * @throws DataConversionException if the address book in {@code source} is not in the correct format.
+     */
+    public static void convert(AddressBookStorage source, BinaryAddressBookStorage target)
+            throws DataConversionException, IOException {
+        ReadOnlyAddressBook addressBook = source.readAddressBook().orElseThrow(() ->
+                new FileNotFoundException("AddressBook file " + source.getAddressBookFilePath() + " not found"));
+        target.saveAddressBook(addressBook);
+        logger.info("Converted " + source.getAddressBookFilePath() + " to " + target.getAddressBookFilePath());
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException,
+                                                                                 IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("AddressBook file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        byte[] bytes = Files.readAllBytes(filePath);
+        try {
+            return Optional.of(decode(bytes));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (IOException ioe) {
+            logger.info("Invalid binary data in " + filePath + ": " + ioe.getMessage());
+            throw new DataConversionException(ioe);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}
+     * @param filePath location of the data. Cannot be null
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        Files.write(filePath, encode(addressBook));
+    }
+
+    /**
+     * Returns the binary encoding of {@code addressBook}.
+     */
+    private static byte[] encode(ReadOnlyAddressBook addressBook) throws IOException {
+        StringTableEncoder stringTable = new StringTableEncoder();
+        ByteArrayOutputStream personBytes = new ByteArrayOutputStream();
+        DataOutputStream personOut = new DataOutputStream(personBytes);
+        ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+        DataOutputStream recordOut = new DataOutputStream(recordBytes);
+        for (Person person : addressBook.getPersonList()) {
+            recordBytes.reset();
+            person.toXmlVersion(person).writeTo(recordOut, stringTable);
+            recordOut.flush();
+            writeVarInt(personOut, recordBytes.size());
+            recordBytes.writeTo(personOut);
+        }
+        personOut.flush();
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(personBytes.size() + HEADER_SIZE);
+        DataOutputStream out = new DataOutputStream(bytes);
+        out.writeInt(MAGIC_NUMBER);
+        out.writeInt(FORMAT_VERSION);
+        stringTable.writeTo(out);
+        writeVarInt(out, addressBook.getPersonList().size());
+        personBytes.writeTo(out);
+        out.writeInt(checksumOf(bytes.toByteArray(), bytes.size()));
+        out.flush();
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Returns the address book encoded in {@code bytes}.
+     *
+     * @throws IOException if {@code bytes} is not a valid binary encoding of an address book.
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the persons.
+     */
+    private static AddressBook decode(byte[] bytes) throws IOException, IllegalValueException {
+        if (bytes.length < HEADER_SIZE + CHECKSUM_SIZE) {
+            throw new IOException("File is too short");
+        }
+        int contentLength = bytes.length - CHECKSUM_SIZE;
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes, 0, contentLength));
+        readHeader(in);
+        int checksum = new DataInputStream(new ByteArrayInputStream(bytes, contentLength, CHECKSUM_SIZE)).readInt();
+        if (checksumOf(bytes, contentLength) != checksum) {
+            throw new IOException("Checksum mismatch");
+        }
+
+        StringTableDecoder stringTable = StringTableDecoder.readFrom(in);
+        int personCount = readVarInt(in);
+        AddressBook addressBook = new AddressBook();
+        for (int i = 0; i < personCount; i++) {
+            byte[] record = readBytes(in);
+            Person person = XmlAdaptedPerson.readFrom(new DataInputStream(new ByteArrayInputStream(record)),
+                    stringTable).toModelType();
+            if (addressBook.hasPerson(person)) {
+                throw new IllegalValueException(XmlSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addPerson(person);
+        }
+        return addressBook;
+    }
+
+    /**
+     * Reads the magic number and format version at the start of a binary address book file.
+     *
+     * @throws IOException if the file is not an address book file in the current format.
+     */
+    static void readHeader(DataInput in) throws IOException {
+        if (in.readInt() != MAGIC_NUMBER) {
+            throw new IOException("Not an address book file");
+        }
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported format version " + version);
+        }
+    }
+
+    private static int checksumOf(byte[] bytes, int length) {
+        CRC32 crc = new CRC32();
+        crc.update(bytes, 0, length);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * Writes the non-negative {@code value} to {@code out} in 7-bit groups, least significant group first,
+     * so that small values take a single byte.
+     */
+    private static void writeVarInt(DataOutput out, int value) throws IOException {
+        assert value >= 0;
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    /**
+     * Reads a non-negative value written by {@link #writeVarInt(DataOutput, int)}.
+     */
+    static int readVarInt(DataInput in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+            byte b = in.readByte();
+            value |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                if (value < 0) {
+                    throw new IOException("Invalid length or index");
+                }
+                return value;
+            }
+        }
+        throw new IOException("Invalid length or index");
+    }
+
+    /**
+     * Reads a length-prefixed array of bytes from {@code in}, which must hold the whole encoded address book.
+     */
+    private static byte[] readBytes(DataInputStream in) throws IOException {
+        int length = readVarInt(in);
+        if (length > in.available()) {
+            throw new IOException("Length " + length + " exceeds the end of the file");
+        }
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return bytes;
+    }
+
+    /**
+     * Writes every string as the indices of its comma-separated parts in a table of distinct strings,
+     * adding the parts that are not in the table yet.
+     */
+    private static class StringTableEncoder implements XmlAdaptedPerson.StringEncoder {
+        private final Map<String, Integer> indexByString = new LinkedHashMap<>();
+
+        @Override
+        public void write(DataOutput out, String value) throws IOException {
+            if (value == null) {
+                writeVarInt(out, 0);
+                return;
+            }
+            String[] parts = value.split(FIELD_SEPARATOR, -1);
+            writeVarInt(out, parts.length);
+            for (String part : parts) {
+                Integer index = indexByString.get(part);
+                if (index == null) {
+                    index = indexByString.size();
+                    indexByString.put(part, index);
+                }
+                writeVarInt(out, index);
+            }
+        }
+
+        /**
+         * Writes the number of strings in the table followed by the strings.
+         */
+        void writeTo(DataOutput out) throws IOException {
+            writeVarInt(out, indexByString.size());
+            for (String string : indexByString.keySet()) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                writeVarInt(out, bytes.length);
+                out.write(bytes);
+            }
+        }
+    }
+
+    /**
+     * Reads strings written by a {@code StringTableEncoder}.
+     */
+    static class StringTableDecoder implements XmlAdaptedPerson.StringDecoder {
+        private final List<String> strings;
+
+        private StringTableDecoder(List<String> strings) {
+            this.strings = strings;
+        }
+
+        /**
+         * Reads a table written by {@link StringTableEncoder#writeTo(DataOutput)}.
+         */
+        static StringTableDecoder readFrom(DataInputStream in) throws IOException {
+            int size = readVarInt(in);
+            List<String> strings = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                strings.add(new String(readBytes(in), StandardCharsets.UTF_8));
+            }
+            return new StringTableDecoder(strings);
+        }
+
+        @Override
+        public String read(DataInput in) throws IOException {
+            int partCount = readVarInt(in);
+            if (partCount == 0) {
+                return null;
+            }
+            StringBuilder value = new StringBuilder();
+            for (int i = 0; i < partCount; i++) {
+                int index = readVarInt(in);
+                if (index >= strings.size()) {
+                    throw new IOException("Invalid string index " + index);
+                }
+                if (i > 0) {
+                    value.append(FIELD_SEPARATOR);
+                }
+                value.append(strings.get(index));
+            }
+            return value.toString();
+        }
+    }
+}
@@ -0,0 +1,277 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored as a snapshot file and a journal of the changes made since the snapshot.
+ * Saving the address book only appends the persons that were added, edited or removed since the last save to the
+ * journal, so the cost of a save is proportional to the size of the change rather than to the size of the address
+ * book. Once the journal grows past a threshold, it is compacted into a new snapshot in the background.
+ *
+ * The snapshot is read and written by another {@code AddressBookStorage}, e.g. an {@code XmlAddressBookStorage},
+ * and the journal is kept next to it in a file with the {@link #JOURNAL_FILE_SUFFIX} appended to its name.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final String COMPACTING_FILE_SUFFIX = ".compacting";
+    public static final long DEFAULT_COMPACTION_THRESHOLD = 1 << 20;
+    public static final String MESSAGE_INVALID_COMPACTION_THRESHOLD = "Compaction threshold must be positive.";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    private final AddressBookStorage snapshotStorage;
+    private final AddressBookJournal journal;
+    private final AddressBookJournal compactingJournal;
+    private final long compactionThreshold;
+    private final ExecutorService compactionExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "AddressBook journal compaction");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private volatile Future<?> pendingCompaction = CompletableFuture.completedFuture(null);
+
+    /**
+     * The persons in the snapshot and journal files, in order, keyed by their {@code Nric}.
+     * Null if the files have not been read or written by this storage yet.
+     */
+    private LinkedHashMap<Nric, Person> persistedPersons;
+
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_COMPACTION_THRESHOLD);
+    }
+
+    /**
+     * Creates a storage that compacts the journal once it holds at least {@code compactionThreshold} bytes.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage, long compactionThreshold) {
+        requireNonNull(snapshotStorage);
+        checkArgument(compactionThreshold > 0, MESSAGE_INVALID_COMPACTION_THRESHOLD);
+        this.snapshotStorage = snapshotStorage;
+        this.compactionThreshold = compactionThreshold;
+        Path snapshotPath = snapshotStorage.getAddressBookFilePath();
+        journal = new AddressBookJournal(siblingOf(snapshotPath, JOURNAL_FILE_SUFFIX));
+        compactingJournal = new AddressBookJournal(siblingOf(snapshotPath, JOURNAL_FILE_SUFFIX
+                + COMPACTING_FILE_SUFFIX));
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    public Path getJournalFilePath() {
+        return journal.getFilePath();
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataConversionException, IOException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}, but only replays the journal if {@code filePath} is the snapshot file
+     * of this storage.
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the snapshot or the journal is not in the correct format.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException,
+                                                                                           IOException {
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            return snapshotStorage.readAddressBook(filePath);
+        }
+
+        awaitCompaction();
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (!snapshot.isPresent() && !compactingJournal.exists() && !journal.exists()) {
+            return Optional.empty();
+        }
+
+        AddressBook addressBook = snapshot.map(AddressBook::new).orElseGet(AddressBook::new);
+        compactingJournal.replay(addressBook);
+        long replayedLength = journal.replay(addressBook);
+        if (replayedLength < journal.size()) {
+            // records appended after the incomplete one would never be replayed
+            logger.warning("Truncating " + journal.getFilePath() + " to its " + replayedLength
+                    + " bytes of complete records");
+            journal.truncate(replayedLength);
+        }
+        // A journal left over from an interrupted compaction is merged into the snapshot by the next save.
+        persistedPersons = compactingJournal.exists() ? null : indexByNric(addressBook.getPersonList());
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}, but writes a full snapshot without a journal if
+     * {@code filePath} is not the snapshot file of this storage.
+     * @param filePath location of the data. Cannot be null
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        List<Person> persons = addressBook.getPersonList();
+        if (persistedPersons == null || !isAppendOnlyChange(persons)) {
+            saveSnapshot(persons);
+            return;
+        }
+
+        Set<Nric> nrics = new HashSet<>();
+        List<Person> upsertedPersons = new ArrayList<>();
+        for (Person person : persons) {
+            nrics.add(person.getNric());
+            if (persistedPersons.get(person.getNric()) != person) {
+                upsertedPersons.add(person);
+            }
+        }
+        List<Nric> removedNrics = new ArrayList<>();
+        for (Nric nric : persistedPersons.keySet()) {
+            if (!nrics.contains(nric)) {
+                removedNrics.add(nric);
+            }
+        }
+        if (removedNrics.isEmpty() && upsertedPersons.isEmpty()) {
+            return;
+        }
+
+        journal.append(removedNrics, upsertedPersons);
+        removedNrics.forEach(persistedPersons::remove);
+        upsertedPersons.forEach(person -> persistedPersons.put(person.getNric(), person));
+        logger.fine("Appended " + (removedNrics.size() + upsertedPersons.size()) + " changes to "
+                + journal.getFilePath());
+
+        if (journal.size() >= compactionThreshold && pendingCompaction.isDone() && !compactingJournal.exists()) {
+            startCompaction();
+        }
+    }
+
+    /**
+     * Waits for the compaction of the journal that is in progress, if any, to finish.
+     */
+    public void awaitCompaction() {
+        try {
+            pendingCompaction.get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException ee) {
+            // The failure was logged by the compaction, and the journal being compacted is kept for the next read.
+        }
+    }
+
+    /**
+     * Returns true if {@code persons} can be reached from the persisted persons by replaying upsert and removal
+     * records, i.e. the persons that were kept are in the same order and all new persons come after them.
+     */
+    private boolean isAppendOnlyChange(List<Person> persons) {
+        Set<Nric> nrics = new HashSet<>();
+        for (Person person : persons) {
+            nrics.add(person.getNric());
+        }
+
+        Iterator<Nric> keptNrics = persistedPersons.keySet().stream().filter(nrics::contains).iterator();
+        boolean isAppending = false;
+        for (Person person : persons) {
+            if (!persistedPersons.containsKey(person.getNric())) {
+                isAppending = true;
+            } else if (isAppending || !person.getNric().equals(keptNrics.next())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Replaces the snapshot with {@code persons} and discards the journal.
+     */
+    private void saveSnapshot(List<Person> persons) throws IOException {
+        awaitCompaction();
+        writeSnapshot(new ArrayList<>(persons));
+        Files.deleteIfExists(journal.getFilePath());
+        Files.deleteIfExists(compactingJournal.getFilePath());
+        persistedPersons = indexByNric(persons);
+    }
+
+    /**
+     * Moves the journal aside and writes the persisted persons to a new snapshot in the background.
+     * Saves made in the meantime are appended to a new journal.
+     */
+    private void startCompaction() throws IOException {
+        Files.move(journal.getFilePath(), compactingJournal.getFilePath(), StandardCopyOption.ATOMIC_MOVE);
+        List<Person> persons = new ArrayList<>(persistedPersons.values());
+        pendingCompaction = compactionExecutor.submit(() -> {
+            try {
+                writeSnapshot(persons);
+                Files.delete(compactingJournal.getFilePath());
+                logger.fine("Compacted " + compactingJournal.getFilePath() + " into " + getAddressBookFilePath());
+            } catch (IOException | RuntimeException | Error e) {
+                logger.warning("Failed to compact " + compactingJournal.getFilePath() + ": " + e);
+                throw e;
+            }
+            return null;
+        });
+    }
+
+    /**
+     * Writes {@code persons} to a temporary file and then moves it over the snapshot, so that the snapshot is
+     * always either the old or the new one.
+     */
+    private void writeSnapshot(List<Person> persons) throws IOException {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        Path snapshotPath = getAddressBookFilePath();
+        Path temporaryPath = siblingOf(snapshotPath, TEMPORARY_FILE_SUFFIX);
+        snapshotStorage.saveAddressBook(addressBook, temporaryPath);
+        Files.move(temporaryPath, snapshotPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static LinkedHashMap<Nric, Person> indexByNric(List<Person> persons) {
+        LinkedHashMap<Nric, Person> personsByNric = new LinkedHashMap<>();
+        persons.forEach(person -> personsByNric.put(person.getNric(), person));
+        return personsByNric;
+    }
+
+    private static Path siblingOf(Path filePath, String suffix) {
+        return filePath.resolveSibling(filePath.getFileName() + suffix);
+    }
+}
@@ -3,7 +3,9 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.logging.Logger;
 
+import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataConversionException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.UserPrefs;
@@ -13,6 +15,8 @@ import seedu.address.model.UserPrefs;
  */
 public class JsonUserPrefsStorage implements UserPrefsStorage {
 
+    private static final Logger logger = LogsCenter.getLogger(JsonUserPrefsStorage.class);
+
     private Path filePath;
 
     public JsonUserPrefsStorage(Path filePath) {
@@ -32,10 +36,19 @@ public class JsonUserPrefsStorage implements UserPrefsStorage {
     /**
      * Similar to {@link #readUserPrefs()}
      * @param prefsFilePath location of the data. Cannot be null.
+     * A negative undo history depth in the file is replaced by the default depth.
      * @throws DataConversionException if the file format is not as expected.
      */
     public Optional<UserPrefs> readUserPrefs(Path prefsFilePath) throws DataConversionException {
-        return JsonUtil.readJsonFile(prefsFilePath, UserPrefs.class);
+        Optional<UserPrefs> userPrefs = JsonUtil.readJsonFile(prefsFilePath, UserPrefs.class);
+        userPrefs.ifPresent(prefs -> {
+            if (prefs.getHistoryDepth() < 0) {
+                logger.warning("Undo history depth " + prefs.getHistoryDepth() + " in " + prefsFilePath
+                        + " is negative. Using default depth " + UserPrefs.DEFAULT_HISTORY_DEPTH);
+                prefs.setHistoryDepth(UserPrefs.DEFAULT_HISTORY_DEPTH);
+            }
+        });
+        return userPrefs;
     }
 
     @Override
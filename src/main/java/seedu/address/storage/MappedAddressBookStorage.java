@@ -0,0 +1,208 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+import java.util.zip.CRC32;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+
+/**
+ * A class to access AddressBook data stored in the format of {@code BinaryAddressBookStorage} by loading the whole
+ * file into a single buffer rather than reading it as a stream.
+ *
+ * Reading makes a single pass over the buffer to find where each person starts and to index the persons by NRIC,
+ * which finds duplicate persons without converting any of them. The persons are then converted and validated in
+ * parallel, each straight from its own part of the buffer.
+ *
+ * The file is copied into the heap rather than mapped, as a mapping is only released once it is garbage collected,
+ * and until then keeps later saves from replacing the file on Windows.
+ */
+public class MappedAddressBookStorage extends BinaryAddressBookStorage {
+
+    private static final Logger logger = LogsCenter.getLogger(MappedAddressBookStorage.class);
+
+    public MappedAddressBookStorage(Path filePath) {
+        super(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}
+     * @param filePath location of the data. Cannot be null
+     * @throws DataConversionException if the file is not in the correct format.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException,
+                                                                                 IOException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            logger.info("AddressBook file " + filePath + " not found");
+            return Optional.empty();
+        }
+
+        ByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IOException("AddressBook file " + filePath + " is too large to be loaded");
+            }
+            buffer = ByteBuffer.allocate((int) channel.size());
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) == -1) {
+                    throw new IOException("AddressBook file " + filePath + " was truncated while being loaded");
+                }
+            }
+        }
+        buffer.flip();
+
+        try {
+            return Optional.of(decode(buffer));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataConversionException(ive);
+        } catch (IOException ioe) {
+            logger.info("Invalid binary data in " + filePath + ": " + ioe.getMessage());
+            throw new DataConversionException(ioe);
+        }
+    }
+
+    /**
+     * Returns the address book encoded in {@code buffer}.
+     *
+     * @throws IOException if {@code buffer} is not a valid binary encoding of an address book.
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the persons.
+     */
+    private static AddressBook decode(ByteBuffer buffer) throws IOException, IllegalValueException {
+        if (buffer.capacity() < HEADER_SIZE + CHECKSUM_SIZE) {
+            throw new IOException("File is too short");
+        }
+        int contentLength = buffer.capacity() - CHECKSUM_SIZE;
+        ByteBuffer content = slice(buffer, 0, contentLength);
+        ByteBuffer scanBuffer = content.duplicate();
+        DataInputStream in = new DataInputStream(new ByteBufferInputStream(scanBuffer));
+        readHeader(in);
+        if (checksumOf(content) != buffer.getInt(contentLength)) {
+            throw new IOException("Checksum mismatch");
+        }
+
+        StringTableDecoder stringTable = StringTableDecoder.readFrom(in);
+        int personCount = readVarInt(in);
+        if (personCount > scanBuffer.remaining()) {
+            throw new IOException("Person count " + personCount + " exceeds the size of the file");
+        }
+        int[] recordOffsets = new int[personCount];
+        int[] recordLengths = new int[personCount];
+        Map<String, Integer> recordIndexByNric = new HashMap<>();
+        for (int i = 0; i < personCount; i++) {
+            int length = readVarInt(in);
+            int offset = scanBuffer.position();
+            if (length > scanBuffer.remaining()) {
+                throw new IOException("Length " + length + " exceeds the end of the file");
+            }
+            recordOffsets[i] = offset;
+            recordLengths[i] = length;
+            String nric = XmlAdaptedPerson.readNric(openRecord(content, offset, length), stringTable);
+            if (nric != null && recordIndexByNric.put(nric.toUpperCase(), i) != null) {
+                throw new IllegalValueException(XmlSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            scanBuffer.position(offset + length);
+        }
+
+        Person[] persons = new Person[personCount];
+        AtomicReference<Exception> failure = new AtomicReference<>();
+        IntStream.range(0, personCount).parallel().forEach(i -> {
+            if (failure.get() != null) {
+                return;
+            }
+            try {
+                persons[i] = XmlAdaptedPerson.readFrom(openRecord(content, recordOffsets[i], recordLengths[i]),
+                        stringTable).toModelType();
+            } catch (IOException | IllegalValueException e) {
+                failure.compareAndSet(null, e);
+            }
+        });
+        if (failure.get() instanceof IllegalValueException) {
+            throw (IllegalValueException) failure.get();
+        } else if (failure.get() != null) {
+            throw (IOException) failure.get();
+        }
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(Arrays.asList(persons));
+        return addressBook;
+    }
+
+    /**
+     * Returns a stream over the {@code length} bytes of the person record at {@code offset} in {@code content}.
+     * The position of {@code content} is not changed, so records can be opened from several threads at once.
+     */
+    private static DataInputStream openRecord(ByteBuffer content, int offset, int length) {
+        return new DataInputStream(new ByteBufferInputStream(slice(content, offset, length)));
+    }
+
+    private static ByteBuffer slice(ByteBuffer buffer, int offset, int length) {
+        ByteBuffer slice = buffer.duplicate();
+        slice.limit(offset + length);
+        slice.position(offset);
+        return slice;
+    }
+
+    private static int checksumOf(ByteBuffer content) {
+        CRC32 crc = new CRC32();
+        crc.update(content.duplicate());
+        return (int) crc.getValue();
+    }
+
+    /**
+     * An {@code InputStream} that reads the remaining bytes of a {@code ByteBuffer}.
+     */
+    private static class ByteBufferInputStream extends InputStream {
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int count = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, count);
+            return count;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+}
@@ -31,9 +31,24 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
     /**
-     * Saves the current version of the Address Book to the hard disk.
+     * Saves the current version of the Address Book to the hard disk in the background.
      *   Creates the data file if it is missing.
      * Raises {@link DataSavingExceptionEvent} if there was an error during saving.
      */
     void handleAddressBookChangedEvent(AddressBookChangedEvent abce);
+
+    /**
+     * Waits until all changes to the Address Book received so far have been saved.
+     */
+    void flushAddressBook();
+
+    /**
+     * Returns the number of changes to the Address Book that have been received but not saved yet.
+     */
+    int getPendingChangeCount();
+
+    /**
+     * Returns how long the last save of the Address Book took in nanoseconds, or -1 if it has not been saved yet.
+     */
+    long getLastSaveLatencyNanos();
 }
@@ -3,6 +3,12 @@ package seedu.address.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
@@ -12,11 +18,16 @@ import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.model.AddressBookChangedEvent;
 import seedu.address.commons.events.storage.DataSavingExceptionEvent;
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.UserPrefs;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ * All writes to the address book storage are made by a single background thread. Changes to the address book are
+ * saved in the background, and changes made while a save is in progress are coalesced into one save of the latest
+ * version of the address book. Changes are handled on the thread that made them, as the address book has to be
+ * copied before it changes again, so this class does not declare a {@code DispatchOn} thread of its own.
  */
 public class StorageManager extends ComponentManager implements Storage {
 
@@ -24,6 +35,15 @@ public class StorageManager extends ComponentManager implements Storage {
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    private final ExecutorService saveExecutor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "AddressBook saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicReference<PendingSave> pendingSave = new AtomicReference<>();
+    private final AtomicInteger pendingChangeCount = new AtomicInteger();
+    private volatile long lastSaveLatencyNanos = -1;
+
 
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
         super();
@@ -63,6 +83,7 @@ public class StorageManager extends ComponentManager implements Storage {
 
     @Override
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataConversionException, IOException {
+        flushAddressBook();
         logger.fine("Attempting to read data from file: " + filePath);
         return addressBookStorage.readAddressBook(filePath);
     }
@@ -72,21 +93,110 @@ public class StorageManager extends ComponentManager implements Storage {
         saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
     }
 
+    /**
+     * Saves {@code addressBook} to {@code filePath} on the saving thread, after the changes that are waiting to be
+     * saved, and waits for the save to finish.
+     */
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
         logger.fine("Attempting to write to data file: " + filePath);
-        addressBookStorage.saveAddressBook(addressBook, filePath);
+        runOnSaveExecutor(() -> {
+            addressBookStorage.saveAddressBook(addressBook, filePath);
+            return null;
+        });
+    }
+
+    @Override
+    public void flushAddressBook() {
+        try {
+            runOnSaveExecutor(() -> null);
+        } catch (IOException ioe) {
+            throw new AssertionError("Flushing does not write by itself", ioe);
+        }
+    }
+
+    @Override
+    public int getPendingChangeCount() {
+        return pendingChangeCount.get();
+    }
+
+    @Override
+    public long getLastSaveLatencyNanos() {
+        return lastSaveLatencyNanos;
     }
 
+    /**
+     * Runs {@code task} on the saving thread and waits for it to finish.
+     */
+    private void runOnSaveExecutor(Callable<Void> task) throws IOException {
+        try {
+            saveExecutor.submit(task).get();
+        } catch (InterruptedException ie) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the address book to be saved", ie);
+        } catch (ExecutionException ee) {
+            if (ee.getCause() instanceof IOException) {
+                throw (IOException) ee.getCause();
+            }
+            if (ee.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) ee.getCause();
+            }
+            throw new AssertionError("Unexpected exception " + ee.getCause(), ee.getCause());
+        }
+    }
 
     @Override
     @Subscribe
     public void handleAddressBookChangedEvent(AddressBookChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event, "Local data changed, saving to file"));
+        // The model keeps changing after the event, so the persons are copied before the save is handed off.
+        AddressBook addressBook = new AddressBook(event.data);
+        pendingChangeCount.incrementAndGet();
+        PendingSave previous = pendingSave.getAndUpdate(save -> new PendingSave(addressBook,
+                save == null ? 1 : save.changeCount + 1));
+        if (previous == null) {
+            saveExecutor.execute(this::savePendingAddressBook);
+        }
+    }
+
+    /**
+     * Saves the latest version of the address book that is waiting to be saved, if any.
+     * Raises {@link DataSavingExceptionEvent} if saving failed for any reason, as the failure cannot be thrown to
+     * the thread that made the changes.
+     */
+    private void savePendingAddressBook() {
+        PendingSave save = pendingSave.getAndSet(null);
+        if (save == null) {
+            return;
+        }
+
+        long startTime = System.nanoTime();
         try {
-            saveAddressBook(event.data);
-        } catch (IOException e) {
+            addressBookStorage.saveAddressBook(save.addressBook, addressBookStorage.getAddressBookFilePath());
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Failed to save the address book: " + e);
             raise(new DataSavingExceptionEvent(e));
+        } catch (Error e) {
+            // nothing waits on this thread to rethrow the error to, so it is reported like any other failure
+            logger.severe("Failed to save the address book: " + e);
+            raise(new DataSavingExceptionEvent(new IOException("Unexpected error while saving", e)));
+        } finally {
+            lastSaveLatencyNanos = System.nanoTime() - startTime;
+            pendingChangeCount.addAndGet(-save.changeCount);
+        }
+        logger.fine("Saved " + save.changeCount + " change(s) in " + lastSaveLatencyNanos / 1000000 + " ms");
+    }
+
+    /**
+     * The latest version of the address book waiting to be saved, and the number of changes it includes.
+     */
+    private static class PendingSave {
+        private final ReadOnlyAddressBook addressBook;
+        private final int changeCount;
+
+        PendingSave(ReadOnlyAddressBook addressBook, int changeCount) {
+            this.addressBook = addressBook;
+            this.changeCount = changeCount;
         }
     }
 
@@ -38,6 +38,10 @@ public class XmlAdaptedAppointment {
         this.appointment = value;
     }
 
+    String getAppointment() {
+        return appointment;
+    }
+
     /**
      * Converts this jaxb-friendly adapted appointment object into the model's Appointment object.
      *
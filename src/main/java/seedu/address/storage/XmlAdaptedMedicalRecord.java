@@ -38,6 +38,10 @@ public class XmlAdaptedMedicalRecord {
         this.medicalRecord = medicalRecord.toString();
     }
 
+    String getMedicalRecord() {
+        return medicalRecord;
+    }
+
     /**
      * Converts this jaxb-friendly adapted medicalRecord object into the model's Appointment object.
      *
@@ -1,5 +1,8 @@
 package seedu.address.storage;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -200,6 +203,134 @@ public class XmlAdaptedPerson {
         }
     }
 
+    /**
+     * Writes the fields of this adapted person to {@code out} in a compact binary form.
+     * The fields can be read back with {@link #readFrom(DataInput)}.
+     */
+    void writeTo(DataOutput out) throws IOException {
+        writeTo(out, XmlAdaptedPerson::writeNullableString);
+    }
+
+    /**
+     * Writes the fields of this adapted person to {@code out}, using {@code stringEncoder} to write every string.
+     * The fields can be read back with {@link #readFrom(DataInput, StringDecoder)} and a matching decoder.
+     */
+    void writeTo(DataOutput out, StringEncoder stringEncoder) throws IOException {
+        stringEncoder.write(out, role);
+        stringEncoder.write(out, name);
+        stringEncoder.write(out, nric);
+        stringEncoder.write(out, phone);
+        stringEncoder.write(out, email);
+        stringEncoder.write(out, address);
+        stringEncoder.write(out, appointment);
+        stringEncoder.write(out, medicalRecord);
+        stringEncoder.write(out, medicalDepartment);
+        writeStrings(out, stringEncoder, tagged.stream().map(XmlAdaptedTag::getTagName)
+                .collect(Collectors.toList()));
+        writeStrings(out, stringEncoder, medicalRecordLibrary.stream().map(XmlAdaptedMedicalRecord::getMedicalRecord)
+                .collect(Collectors.toList()));
+        writeStrings(out, stringEncoder, appointmentList.stream().map(XmlAdaptedAppointment::getAppointment)
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Reads an adapted person written by {@link #writeTo(DataOutput)} from {@code in}.
+     * The fields are not validated until the adapted person is converted with {@link #toModelType()}.
+     */
+    static XmlAdaptedPerson readFrom(DataInput in) throws IOException {
+        return readFrom(in, XmlAdaptedPerson::readNullableString);
+    }
+
+    /**
+     * Reads an adapted person written by {@link #writeTo(DataOutput, StringEncoder)} from {@code in}, using
+     * {@code stringDecoder} to read every string.
+     */
+    static XmlAdaptedPerson readFrom(DataInput in, StringDecoder stringDecoder) throws IOException {
+        XmlAdaptedPerson person = new XmlAdaptedPerson();
+        person.role = stringDecoder.read(in);
+        person.name = stringDecoder.read(in);
+        person.nric = stringDecoder.read(in);
+        person.phone = stringDecoder.read(in);
+        person.email = stringDecoder.read(in);
+        person.address = stringDecoder.read(in);
+        person.appointment = stringDecoder.read(in);
+        person.medicalRecord = stringDecoder.read(in);
+        person.medicalDepartment = stringDecoder.read(in);
+        person.tagged = readStrings(in, stringDecoder).stream().map(XmlAdaptedTag::new)
+                .collect(Collectors.toList());
+        person.medicalRecordLibrary = readStrings(in, stringDecoder).stream().map(XmlAdaptedMedicalRecord::new)
+                .collect(Collectors.toList());
+        person.appointmentList = readStrings(in, stringDecoder).stream().map(XmlAdaptedAppointment::new)
+                .collect(Collectors.toList());
+        return person;
+    }
+
+    /**
+     * Reads only the NRIC of an adapted person written by {@link #writeTo(DataOutput, StringEncoder)} from
+     * {@code in}, without reading the rest of its fields.
+     */
+    static String readNric(DataInput in, StringDecoder stringDecoder) throws IOException {
+        stringDecoder.read(in); // role
+        stringDecoder.read(in); // name
+        return stringDecoder.read(in);
+    }
+
+    /**
+     * Writes {@code value}, which may be null, to {@code out}.
+     */
+    private static void writeNullableString(DataOutput out, String value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeUTF(value);
+        }
+    }
+
+    private static String readNullableString(DataInput in) throws IOException {
+        return in.readBoolean() ? in.readUTF() : null;
+    }
+
+    /**
+     * Writes the number of {@code values} followed by the values to {@code out}.
+     */
+    private static void writeStrings(DataOutput out, StringEncoder stringEncoder, List<String> values)
+            throws IOException {
+        out.writeInt(values.size());
+        for (String value : values) {
+            stringEncoder.write(out, value);
+        }
+    }
+
+    /**
+     * Reads a list of strings written by {@link #writeStrings(DataOutput, StringEncoder, List)}.
+     */
+    private static List<String> readStrings(DataInput in, StringDecoder stringDecoder) throws IOException {
+        int size = in.readInt();
+        if (size < 0) {
+            throw new IOException("Negative list size: " + size);
+        }
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            values.add(stringDecoder.read(in));
+        }
+        return values;
+    }
+
+    /**
+     * Writes a string field, which may be null, in a binary form.
+     */
+    @FunctionalInterface
+    interface StringEncoder {
+        void write(DataOutput out, String value) throws IOException;
+    }
+
+    /**
+     * Reads a string field written by a matching {@code StringEncoder}.
+     */
+    @FunctionalInterface
+    interface StringDecoder {
+        String read(DataInput in) throws IOException;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
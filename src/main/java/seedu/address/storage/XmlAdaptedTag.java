@@ -35,6 +35,10 @@ public class XmlAdaptedTag {
         tagName = source.tagName;
     }
 
+    String getTagName() {
+        return tagName;
+    }
+
     /**
      * Converts this jaxb-friendly adapted tag object into the model's Tag object.
      *
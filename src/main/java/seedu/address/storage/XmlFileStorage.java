@@ -1,12 +1,16 @@
 package seedu.address.storage;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.nio.file.Path;
 
 import javax.xml.bind.JAXBException;
 
 import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.XmlUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
 
 /**
  * Stores addressbook data in an XML file
@@ -36,4 +40,29 @@ public class XmlFileStorage {
         }
     }
 
+    /**
+     * Saves the given addressbook to the specified file, writing one person at a time.
+     */
+    public static void saveAddressBookToFile(Path file, ReadOnlyAddressBook addressBook) throws IOException {
+        try {
+            XmlSerializableAddressBook.saveToFile(file, addressBook);
+        } catch (JAXBException e) {
+            throw new AssertionError("Unexpected exception " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Returns the address book in the file, reading one person at a time.
+     *
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the persons.
+     */
+    public static AddressBook loadAddressBookFromSaveFile(Path file) throws DataConversionException, IOException,
+            IllegalValueException {
+        try {
+            return XmlSerializableAddressBook.readFromFile(file);
+        } catch (JAXBException e) {
+            throw new DataConversionException(e);
+        }
+    }
+
 }
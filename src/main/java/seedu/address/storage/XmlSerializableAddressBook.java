@@ -1,13 +1,17 @@
 package seedu.address.storage;
 
+import java.io.IOException;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
 
+import javax.xml.bind.JAXBException;
 import javax.xml.bind.annotation.XmlElement;
 import javax.xml.bind.annotation.XmlRootElement;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.XmlUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
@@ -15,11 +19,14 @@ import seedu.address.model.person.Person;
 /**
  * An Immutable AddressBook that is serializable to XML format
  */
-@XmlRootElement(name = "addressbook")
+@XmlRootElement(name = XmlSerializableAddressBook.ROOT_ELEMENT_NAME)
 public class XmlSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
 
+    static final String ROOT_ELEMENT_NAME = "addressbook";
+    static final String PERSON_ELEMENT_NAME = "persons";
+
     @XmlElement
     private List<XmlAdaptedPerson> persons;
 
@@ -58,6 +65,34 @@ public class XmlSerializableAddressBook {
         return addressBook;
     }
 
+    /**
+     * Reads the address book in {@code file} one person at a time, without first reading every person into an
+     * {@code XmlSerializableAddressBook}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated or duplicates in the persons.
+     */
+    public static AddressBook readFromFile(Path file) throws IOException, JAXBException, IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        XmlUtil.readElementsFromFile(file, ROOT_ELEMENT_NAME, PERSON_ELEMENT_NAME, XmlAdaptedPerson.class, p -> {
+            Person person = p.toModelType();
+            if (addressBook.hasPerson(person)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addPerson(person);
+        });
+        return addressBook;
+    }
+
+    /**
+     * Saves {@code src} in {@code file} in the same format as an {@code XmlSerializableAddressBook}, converting and
+     * writing one person at a time.
+     */
+    public static void saveToFile(Path file, ReadOnlyAddressBook src) throws IOException, JAXBException {
+        Iterable<XmlAdaptedPerson> persons = () -> src.getPersonList().stream()
+                .map(person -> person.toXmlVersion(person)).iterator();
+        XmlUtil.saveElementsToFile(file, ROOT_ELEMENT_NAME, PERSON_ELEMENT_NAME, XmlAdaptedPerson.class, persons);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -9,9 +9,9 @@ import javafx.scene.input.KeyEvent;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.events.ui.NewResultAvailableEvent;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.ListElementPointer;
 import seedu.address.logic.Logic;
-import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 
@@ -105,22 +105,34 @@ public class CommandBox extends UiPart<Region> {
      */
     @FXML
     private void handleCommandEntered() {
-        try {
-            CommandResult commandResult = logic.execute(commandTextField.getText());
+        String commandText = commandTextField.getText();
+        // the command is executed off the JavaFX thread, and its result handled back on it
+        logic.executeAsync(commandText).whenComplete((commandResult, error) -> {
             initHistory();
-            historySnapshot.next();
-            // process result of the command
-            commandTextField.setText("");
-            logger.info("Result: " + commandResult.feedbackToUser);
-            raise(new NewResultAvailableEvent(commandResult.feedbackToUser));
+            // the user may have started typing another command while this one was executed
+            boolean isCommandTextShown = commandTextField.getText().equals(commandText);
+            if (error == null) {
+                historySnapshot.next();
+                // process result of the command
+                if (isCommandTextShown) {
+                    commandTextField.setText("");
+                }
+                logger.info("Result: " + commandResult.feedbackToUser);
+                raise(new NewResultAvailableEvent(commandResult.feedbackToUser));
+                return;
+            }
 
-        } catch (CommandException | ParseException e) {
-            initHistory();
             // handle command failure
-            setStyleToIndicateCommandFailure();
-            logger.info("Invalid command: " + commandTextField.getText());
-            raise(new NewResultAvailableEvent(e.getMessage()));
-        }
+            if (isCommandTextShown) {
+                setStyleToIndicateCommandFailure();
+            }
+            if (error instanceof CommandException || error instanceof ParseException) {
+                logger.info("Invalid command: " + commandText);
+            } else {
+                logger.warning("Failed to execute command: " + commandText + " : " + StringUtil.getDetails(error));
+            }
+            raise(new NewResultAvailableEvent(error.getMessage()));
+        });
     }
 
     /**
@@ -158,9 +170,15 @@ public class CommandBox extends UiPart<Region> {
      */
     private void handleCommandCancelled() {
         commandTextField.setText("");
-        String feedbackToUser = logic.cancelCommand();
-        logger.info("Escape key pressed, command cancelled");
-        raise(new NewResultAvailableEvent(feedbackToUser));
+        logger.info("Escape key pressed, cancelling command");
+        logic.cancelCommand().whenComplete((feedbackToUser, error) -> {
+            if (error != null) {
+                logger.warning("Failed to cancel command : " + StringUtil.getDetails(error));
+                raise(new NewResultAvailableEvent(error.getMessage()));
+                return;
+            }
+            raise(new NewResultAvailableEvent(feedbackToUser));
+        });
     }
 
 }
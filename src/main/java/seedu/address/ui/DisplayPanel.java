@@ -14,6 +14,7 @@ import javafx.scene.control.ListCell;
 import javafx.scene.control.ListView;
 import javafx.scene.layout.Region;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.model.DatabaseChangedEvent;
 import seedu.address.commons.events.model.PersonChangedEvent;
 import seedu.address.commons.events.ui.DisplayPanelSelectionChangedEvent;
 import seedu.address.commons.events.ui.PersonPanelSelectionChangedEvent;
@@ -22,6 +23,7 @@ import seedu.address.model.patient.MedicalRecord;
 import seedu.address.model.patient.Patient;
 import seedu.address.model.person.Appointment;
 import seedu.address.model.person.DisplayableAttribute;
+import seedu.address.model.person.Nric;
 import seedu.address.model.person.Person;
 
 /**
@@ -57,13 +59,25 @@ public class DisplayPanel extends UiPart<Region> {
 
     @Subscribe
     private void handlePersonChangedEvent(PersonChangedEvent event) {
-        if (event.editedPerson == null) {
-            showDefaultDisplayPanel(); // if person is deleted or database has been cleared, show the default scene
-            return;
-        } else if (!event.originalPerson.equals(personOnDisplay)) {
-            return; // if person updated in the event is not related to this person being displayed on the UI
-        }
-        updateScene(event.editedPerson);
+        // Commands are executed off the JavaFX thread, so the event may not be raised on it.
+        Platform.runLater(() -> {
+            if (personOnDisplay == null) {
+                return;
+            }
+            Nric nricOnDisplay = personOnDisplay.getNric();
+            if (event.replacedPersons.containsKey(nricOnDisplay)) {
+                updateScene(event.replacedPersons.get(nricOnDisplay));
+            } else if (event.removedNrics.contains(nricOnDisplay)) {
+                showDefaultDisplayPanel(); // if person is deleted or database has been cleared, show the default scene
+            }
+            // otherwise the person being displayed on the UI is not affected
+        });
+    }
+
+    @Subscribe
+    private void handleDatabaseChangedEvent(DatabaseChangedEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        showDefaultDisplayPanel();
     }
 
     @Subscribe
@@ -6,6 +6,7 @@ import java.util.logging.Logger;
 
 import com.google.common.eventbus.Subscribe;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -128,7 +129,7 @@ public class MainWindow extends UiPart<Stage> {
         displayPanel = new DisplayPanel();
         displayPlaceholder.getChildren().add(displayPanel.getRoot());
 
-        personListPanel = new PersonListPanel(logic.getFilteredPersonList());
+        personListPanel = new PersonListPanel(logic.getDisplayedPersonList());
         personListPanelPlaceholder.getChildren().add(personListPanel.getRoot());
 
         PersonProfilePage personProfilePage = new PersonProfilePage();
@@ -215,6 +216,7 @@ public class MainWindow extends UiPart<Stage> {
     @Subscribe
     private void handleShowHelpEvent(ShowHelpRequestEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
-        handleHelp();
+        // Commands are executed off the JavaFX thread, so the event may not be raised on it.
+        Platform.runLater(this::handleHelp);
     }
 }
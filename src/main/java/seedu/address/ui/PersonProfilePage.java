@@ -12,11 +12,13 @@ import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.Region;
 import javafx.scene.text.Text;
 import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.events.model.DatabaseChangedEvent;
 import seedu.address.commons.events.model.PersonChangedEvent;
 import seedu.address.commons.events.ui.PersonPanelSelectionChangedEvent;
 import seedu.address.model.doctor.Doctor;
 import seedu.address.model.patient.Patient;
 import seedu.address.model.person.Date;
+import seedu.address.model.person.Nric;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Time;
 
@@ -79,17 +81,25 @@ public class PersonProfilePage extends UiPart<Region> {
     private void handlePersonChangedEvent(PersonChangedEvent event) {
         logger.info(LogsCenter.getEventHandlingLogMessage(event));
 
-        if (event.editedPerson == null) {
-            Platform.runLater(()-> {
+        // Commands are executed off the JavaFX thread, so the event may not be raised on it.
+        Platform.runLater(()-> {
+            if (personOnDisplay == null) {
+                return;
+            }
+            Nric nricOnDisplay = personOnDisplay.getNric();
+            if (event.replacedPersons.containsKey(nricOnDisplay)) {
+                updateScene(event.replacedPersons.get(nricOnDisplay));
+            } else if (event.removedNrics.contains(nricOnDisplay)) {
                 showDefaultProfilePage(); // if person is deleted of database is cleared, display the default scene.
-            });
-            return;
-        } else if (!event.originalPerson.equals(personOnDisplay)) {
-            return; // if the person updated is not the person that is being displayed on the UI.
-        }
+            }
+            // otherwise the person being displayed on the UI is not affected
+        });
+    }
 
-        Person updatedPerson = event.editedPerson;
-        updateScene(updatedPerson);
+    @Subscribe
+    private void handleDatabaseChangedEvent(DatabaseChangedEvent event) {
+        logger.info(LogsCenter.getEventHandlingLogMessage(event));
+        Platform.runLater(this::showDefaultProfilePage);
     }
 
     @Subscribe
@@ -7,13 +7,16 @@ import java.net.URL;
 
 import javafx.fxml.FXMLLoader;
 import seedu.address.MainApp;
+import seedu.address.commons.core.DispatchOn;
 import seedu.address.commons.core.EventsCenter;
 import seedu.address.commons.events.BaseEvent;
 
 /**
  * Represents a distinct part of the UI. e.g. Windows, dialogs, panels, status bars, etc.
  * It contains a scene graph with a root node of type {@code T}.
+ * Its event handlers are called on the JavaFX thread once asynchronous event dispatch is enabled.
  */
+@DispatchOn(EventsCenter.Dispatcher.UI)
 public abstract class UiPart<T> {
 
     /** Resource folder where FXML files are stored. */
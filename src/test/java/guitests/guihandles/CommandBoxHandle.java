@@ -3,6 +3,7 @@ package guitests.guihandles;
 import javafx.collections.ObservableList;
 import javafx.scene.control.TextField;
 import javafx.scene.input.KeyCode;
+import seedu.address.ui.CommandBox;
 
 /**
  * A handle to the {@code CommandBox} in the GUI.
@@ -23,7 +24,8 @@ public class CommandBoxHandle extends NodeHandle<TextField> {
     }
 
     /**
-     * Enters the given command in the Command Box and presses enter.
+     * Enters the given command in the Command Box, presses enter and waits for the command to be executed, which
+     * either clears the Command Box or marks the command as failed.
      */
     public void run(String command) {
         click();
@@ -31,6 +33,7 @@ public class CommandBoxHandle extends NodeHandle<TextField> {
         guiRobot.pauseForHuman();
 
         guiRobot.type(KeyCode.ENTER);
+        guiRobot.waitForEvent(() -> getInput().isEmpty() || getStyleClass().contains(CommandBox.ERROR_STYLE_CLASS));
     }
 
     /**
@@ -37,6 +37,15 @@ public class AppParametersTest {
         assertEquals(expected, AppParameters.parse(parametersStub));
     }
 
+    @Test
+    public void parse_namedParameters_success() {
+        Map<String, String> namedParameters = new HashMap<>();
+        namedParameters.put("config", "config.json");
+        namedParameters.put("port", "8023");
+        expected.setConfigPath(Paths.get("config.json"));
+        assertEquals(expected, AppParameters.parse(namedParameters));
+    }
+
     private static class ParametersStub extends Application.Parameters {
         private Map<String, String> namedParameters = new HashMap<>();
 
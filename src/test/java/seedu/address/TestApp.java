@@ -56,6 +56,8 @@ public class TestApp extends MainApp {
         Config config = super.initConfig(configFilePath);
         config.setAppTitle(APP_TITLE);
         config.setUserPrefsFilePath(DEFAULT_PREF_FILE_LOCATION_FOR_TESTING);
+        // the tests expect the handlers of an event to have been called once it has been posted
+        config.setAsyncEventDispatch(false);
         return config;
     }
 
@@ -0,0 +1,97 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import com.google.common.eventbus.Subscribe;
+
+import seedu.address.commons.events.BaseEvent;
+
+public class EventsCenterTest {
+
+    @Test
+    public void post_synchronousDispatch_handledOnPostingThread() {
+        EventsCenter eventsCenter = new EventsCenter(false);
+        BackgroundHandler handler = new BackgroundHandler();
+        eventsCenter.registerHandler(handler);
+
+        eventsCenter.post(new TestEvent());
+        assertEquals(Thread.currentThread(), handler.handlingThread.getNow(null));
+        assertEquals(1, eventsCenter.getDispatchStatistics().get(TestEvent.class).getDispatchCount());
+    }
+
+    @Test
+    public void post_asynchronousDispatch_handledOnDeclaredThread() throws Exception {
+        EventsCenter eventsCenter = new EventsCenter(true);
+        BackgroundHandler backgroundHandler = new BackgroundHandler();
+        PosterHandler posterHandler = new PosterHandler();
+        eventsCenter.registerHandler(backgroundHandler);
+        eventsCenter.registerHandler(posterHandler);
+
+        eventsCenter.post(new TestEvent());
+        assertEquals(Thread.currentThread(), posterHandler.handlingThread);
+        assertNotEquals(Thread.currentThread(), backgroundHandler.handlingThread.get(5, TimeUnit.SECONDS));
+
+        // the dispatch of the event to both dispatchers is recorded, right after the handlers have been called
+        EventDispatchStatistics statistics = eventsCenter.getDispatchStatistics().get(TestEvent.class);
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (statistics.getDispatchCount() < 2 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(2, statistics.getDispatchCount());
+        assertTrue(statistics.getMaxLatencyNanos() >= statistics.getMeanLatencyNanos());
+    }
+
+    @Test
+    public void post_handlerUnregistered_notHandled() {
+        EventsCenter eventsCenter = new EventsCenter(false);
+        PosterHandler handler = new PosterHandler();
+        eventsCenter.registerHandler(handler);
+        eventsCenter.unregisterHandler(handler);
+
+        eventsCenter.post(new TestEvent());
+        assertNull(handler.handlingThread);
+    }
+
+    /**
+     * An event that is only posted by these tests.
+     */
+    private static class TestEvent extends BaseEvent {
+        @Override
+        public String toString() {
+            return "test event";
+        }
+    }
+
+    /**
+     * A handler that records the thread it is called on, and is called on a background thread.
+     */
+    @DispatchOn(EventsCenter.Dispatcher.BACKGROUND)
+    private static class BackgroundHandler {
+        private final CompletableFuture<Thread> handlingThread = new CompletableFuture<>();
+
+        @Subscribe
+        public void handleTestEvent(TestEvent event) {
+            handlingThread.complete(Thread.currentThread());
+        }
+    }
+
+    /**
+     * A handler that records the thread it is called on, and declares no thread.
+     */
+    private static class PosterHandler {
+        private Thread handlingThread;
+
+        @Subscribe
+        public void handleTestEvent(TestEvent event) {
+            handlingThread = Thread.currentThread();
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package seedu.address.commons.core;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+public class HistogramTest {
+
+    @Test
+    public void getPercentile_noValues_returnsZero() {
+        Histogram histogram = new Histogram();
+        assertEquals(0, histogram.getPercentile(50));
+        assertEquals(0, histogram.getMean());
+        assertEquals(0, histogram.getCount());
+    }
+
+    @Test
+    public void getPercentile_recordedValues_returnsUpperBoundOfBucket() {
+        Histogram histogram = new Histogram();
+        for (int i = 1; i <= 99; i++) {
+            histogram.record(10);
+        }
+        histogram.record(1000);
+
+        assertEquals(100, histogram.getCount());
+        assertEquals(19, histogram.getMean());
+        assertEquals(1000, histogram.getMax());
+        // 10 is in the bucket of the values from 8 to 15
+        assertEquals(15, histogram.getPercentile(50));
+        assertEquals(15, histogram.getPercentile(99));
+        // the upper bound of the bucket of 1000 is capped at the largest recorded value
+        assertEquals(1000, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void record_negativeValue_recordedAsZero() {
+        Histogram histogram = new Histogram();
+        histogram.record(-5);
+        assertEquals(0, histogram.getPercentile(100));
+        assertEquals(1, histogram.getCount());
+    }
+}
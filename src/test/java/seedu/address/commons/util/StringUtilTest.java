@@ -2,6 +2,7 @@ package seedu.address.commons.util;
 
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
@@ -132,6 +133,22 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for normalizeQuery --------------------------------------
+
+    @Test
+    public void normalizeQuery_emptyQuery_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        StringUtil.normalizeQuery("  ");
+    }
+
+    @Test
+    public void normalizeQuery_validInputs_correctResult() {
+        assertEquals("abc", StringUtil.normalizeQuery("abc"));
+        assertEquals("abc def", StringUtil.normalizeQuery("  ABc DEF  "));
+        assertTrue(StringUtil.containsQueryIgnoreCase("aaa BBB", " a B"));
+        assertFalse(StringUtil.containsQueryIgnoreCase("aaa BBB", "a  B"));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
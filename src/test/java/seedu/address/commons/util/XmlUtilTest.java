@@ -1,8 +1,11 @@
 package seedu.address.commons.util;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assume.assumeTrue;
 
 import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collections;
@@ -71,6 +74,42 @@ public class XmlUtilTest {
         XmlUtil.getDataFromFile(EMPTY_FILE, AddressBook.class);
     }
 
+    @Test
+    public void readElementsFromFile_missingFile_fileNotFoundException() throws Exception {
+        thrown.expect(FileNotFoundException.class);
+        XmlUtil.readElementsFromFile(MISSING_FILE, "addressbook", "persons", XmlAdaptedPerson.class, person -> {});
+    }
+
+    @Test
+    public void readElementsFromFile_emptyFile_dataFormatMismatchException() throws Exception {
+        thrown.expect(JAXBException.class);
+        XmlUtil.readElementsFromFile(EMPTY_FILE, "addressbook", "persons", XmlAdaptedPerson.class, person -> {});
+    }
+
+    @Test
+    public void readElementsFromFile_unexpectedRootElement_dataFormatMismatchException() throws Exception {
+        thrown.expect(JAXBException.class);
+        XmlUtil.readElementsFromFile(VALID_FILE, "person", "persons", XmlAdaptedPerson.class, person -> {});
+    }
+
+    @Test
+    public void saveElementsToFile_missingFile_fileNotFoundException() throws Exception {
+        thrown.expect(FileNotFoundException.class);
+        XmlUtil.saveElementsToFile(MISSING_FILE, "addressbook", "persons", XmlAdaptedPerson.class,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void saveElementsToFile_writeFails_ioException() throws Exception {
+        // every write to this device fails as if the disk were full; it only exists on Linux
+        Path fullDevice = Paths.get("/dev/full");
+        assumeTrue(Files.isWritable(fullDevice));
+        List<XmlAdaptedPerson> persons = Collections.nCopies(1000, new XmlAdaptedPerson(new PersonBuilder().build()));
+
+        thrown.expect(IOException.class);
+        XmlUtil.saveElementsToFile(fullDevice, "addressbook", "persons", XmlAdaptedPerson.class, persons);
+    }
+
     @Test
     public void getDataFromFile_validFile_validResult() throws Exception {
         AddressBook dataFromFile = XmlUtil.getDataFromFile(VALID_FILE, XmlSerializableAddressBook.class).toModelType();
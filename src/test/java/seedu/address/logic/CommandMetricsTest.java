@@ -0,0 +1,51 @@
+package seedu.address.logic;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import seedu.address.commons.events.model.AddressBookChangedEvent;
+import seedu.address.commons.events.ui.NewResultAvailableEvent;
+import seedu.address.model.AddressBook;
+
+public class CommandMetricsTest {
+
+    private final CommandMetrics commandMetrics = new CommandMetrics();
+
+    @Test
+    public void finishExecution_eventsRaised_recordedUnderCommandWord() {
+        commandMetrics.startExecution();
+        commandMetrics.recordEvent(new AddressBookChangedEvent(new AddressBook()));
+        commandMetrics.recordEvent(new NewResultAvailableEvent("result"));
+        commandMetrics.finishExecution("add", false);
+
+        commandMetrics.startExecution();
+        commandMetrics.finishExecution("add", true);
+
+        CommandStatistics statistics = commandMetrics.getStatistics().get("add");
+        assertEquals(2, statistics.getExecutionCount());
+        assertEquals(1, statistics.getFailureCount());
+        assertEquals(2, statistics.getEventCount());
+        assertEquals(1, statistics.getSaveCount());
+        assertTrue(commandMetrics.getReport().startsWith("add: 2 run(s), 1 failed"));
+    }
+
+    @Test
+    public void recordEvent_noExecution_notCounted() {
+        commandMetrics.recordEvent(new AddressBookChangedEvent(new AddressBook()));
+        commandMetrics.startExecution();
+        commandMetrics.finishExecution("list", false);
+
+        assertEquals(0, commandMetrics.getStatistics().get("list").getEventCount());
+    }
+
+    @Test
+    public void isReportDue_intervalPassed_dueOnce() {
+        CommandMetrics dueMetrics = new CommandMetrics(0);
+        assertTrue(dueMetrics.isReportDue());
+
+        assertFalse(commandMetrics.isReportDue());
+    }
+}
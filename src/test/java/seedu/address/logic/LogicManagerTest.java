@@ -1,8 +1,15 @@
 package seedu.address.logic;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static seedu.address.commons.core.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -11,6 +18,7 @@ import org.junit.rules.ExpectedException;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.HistoryCommand;
 import seedu.address.logic.commands.ListCommand;
+import seedu.address.logic.commands.StatsCommand;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.Model;
@@ -46,6 +54,68 @@ public class LogicManagerTest {
         assertHistoryCorrect(listCommand);
     }
 
+    @Test
+    public void execute_stats_showsExecutedCommands() throws Exception {
+        assertCommandSuccess(StatsCommand.COMMAND_WORD, StatsCommand.MESSAGE_NO_STATS, model);
+
+        logic.execute(ListCommand.COMMAND_WORD);
+        assertParseException("uicfhmowqewca", MESSAGE_UNKNOWN_COMMAND);
+        String statsMessage = logic.execute(StatsCommand.COMMAND_WORD).feedbackToUser;
+        assertTrue(statsMessage.contains(LogicManager.COMMAND_WORD_INVALID + ": 1 run(s), 1 failed"));
+        assertTrue(statsMessage.contains(ListCommand.COMMAND_WORD + ": 1 run(s), 0 failed"));
+        assertTrue(statsMessage.contains(StatsCommand.COMMAND_WORD + ": 1 run(s), 0 failed"));
+    }
+
+    @Test
+    public void executeAsync_validCommands_executedInOrderAndDisplayed() {
+        Model asyncModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        Logic asyncLogic = new LogicManager(asyncModel, Runnable::run);
+        String findCommand = "find n/alice";
+
+        CompletableFuture<CommandResult> findResult = asyncLogic.executeAsync(findCommand);
+        CompletableFuture<CommandResult> historyResult = asyncLogic.executeAsync(HistoryCommand.COMMAND_WORD);
+
+        assertEquals(String.format(HistoryCommand.MESSAGE_SUCCESS, findCommand),
+                historyResult.join().feedbackToUser);
+        assertTrue(findResult.isDone());
+        assertEquals(Collections.singletonList(ALICE), asyncLogic.getDisplayedPersonList());
+    }
+
+    @Test
+    public void executeAsync_invalidCommand_completedWithParseException() {
+        Logic asyncLogic = new LogicManager(model, Runnable::run);
+        try {
+            asyncLogic.executeAsync("uicfhmowqewca").join();
+            throw new AssertionError("The invalid command should not be executed.");
+        } catch (CompletionException e) {
+            assertTrue(e.getCause() instanceof ParseException);
+            assertEquals(MESSAGE_UNKNOWN_COMMAND, e.getCause().getMessage());
+        }
+    }
+
+    @Test
+    public void loadInitialData_errorThrown_completedWithError() {
+        Model failingModel = new ModelManager() {
+            @Override
+            public void awaitInitialData() {
+                throw new AssertionError("dummy error");
+            }
+        };
+        Logic asyncLogic = new LogicManager(failingModel, Runnable::run);
+        try {
+            asyncLogic.loadInitialData().join();
+            throw new AssertionError("The initial data should not be loaded.");
+        } catch (CompletionException e) {
+            assertEquals("dummy error", e.getCause().getMessage());
+        }
+    }
+
+    @Test
+    public void cancelCommand_noIntuitiveCommand_completedWithNonIntuitiveCancellation() {
+        Logic asyncLogic = new LogicManager(model, Runnable::run);
+        assertEquals(LogicManager.MESSAGE_NON_INTUITIVE_CANCELLATION, asyncLogic.cancelCommand().join());
+    }
+
     @Test
     public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
         thrown.expect(UnsupportedOperationException.class);
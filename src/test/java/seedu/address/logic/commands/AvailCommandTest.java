@@ -0,0 +1,64 @@
+package seedu.address.logic.commands;
+
+import static org.junit.Assert.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.logic.CommandHistory;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.doctor.Doctor;
+import seedu.address.model.person.Date;
+import seedu.address.model.person.Time;
+import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.DoctorBuilder;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code AvailCommand}.
+ */
+public class AvailCommandTest {
+
+    private static final Date DATE = new Date("22.11.2030");
+    private static final Time START_TIME = new Time("1300");
+    private static final Time END_TIME = new Time("1400");
+
+    private Model model;
+    private CommandHistory commandHistory = new CommandHistory();
+
+    @Before
+    public void setUp() {
+        model = new ModelManager(new AddressBookBuilder().withPerson(ALICE).withPerson(ELLE).withPerson(FIONA)
+                .build(), new UserPrefs());
+    }
+
+    @Test
+    public void execute_freeDoctors_onlyDoctorsListed() throws Exception {
+        CommandResult result = new AvailCommand(DATE, START_TIME, END_TIME).execute(model, commandHistory);
+        assertEquals(String.format(AvailCommand.MESSAGE_SUCCESS, DATE + " " + START_TIME + " to " + END_TIME),
+                result.feedbackToUser);
+        assertEquals(List.of(ELLE, FIONA), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_doctorBookedWhileListed_listFollowsChanges() throws Exception {
+        new AvailCommand(DATE, START_TIME, END_TIME).execute(model, commandHistory);
+
+        // a doctor booked into the period is no longer listed
+        Doctor scheduledElle = new DoctorBuilder(ELLE)
+                .withAppointments("22.11.2030,1330,1430,Elle Meyer,S6977714G,Alice Pauline,S3305985Z").build();
+        model.updatePerson(ELLE, scheduledElle);
+        model.commitAddressBook();
+        assertEquals(List.of(FIONA), model.getFilteredPersonList());
+
+        // and is listed again once the booking is undone
+        model.undoAddressBook();
+        assertEquals(List.of(ELLE, FIONA), model.getFilteredPersonList());
+    }
+}
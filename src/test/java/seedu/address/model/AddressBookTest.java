@@ -6,11 +6,14 @@ import static org.junit.Assert.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
 
 import org.junit.Rule;
@@ -19,9 +22,13 @@ import org.junit.rules.ExpectedException;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.doctor.Doctor;
 import seedu.address.model.patient.Patient;
+import seedu.address.model.person.Date;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Time;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.testutil.DoctorBuilder;
 import seedu.address.testutil.PatientBuilder;
 
 public class AddressBookTest {
@@ -92,6 +99,27 @@ public class AddressBookTest {
         addressBook.getPersonList().remove(0);
     }
 
+    @Test
+    public void getAvailableDoctors_afterScheduleAndRemove_reflectsChanges() {
+        Date date = new Date("22.11.2030");
+        Time startTime = new Time("1300");
+        Time endTime = new Time("1400");
+        addressBook.addPerson(ALICE);
+        addressBook.addPerson(ELLE);
+        addressBook.addPerson(FIONA);
+        assertEquals(new HashSet<>(Arrays.asList(ELLE.getNric(), FIONA.getNric())),
+                addressBook.getAvailableDoctors(date, startTime, endTime));
+
+        Doctor scheduledElle = new DoctorBuilder(ELLE)
+                .withAppointments("22.11.2030,1330,1430,Elle Meyer,S6977714G,Alice Pauline,S3305985Z").build();
+        addressBook.updatePerson(ELLE, scheduledElle);
+        assertEquals(Collections.singleton(FIONA.getNric()),
+                addressBook.getAvailableDoctors(date, startTime, endTime));
+
+        addressBook.removePerson(FIONA);
+        assertTrue(addressBook.getAvailableDoctors(date, startTime, endTime).isEmpty());
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
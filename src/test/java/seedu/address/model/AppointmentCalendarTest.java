@@ -0,0 +1,91 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Test;
+
+import seedu.address.model.doctor.Doctor;
+import seedu.address.model.person.Date;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Time;
+import seedu.address.testutil.DoctorBuilder;
+import seedu.address.testutil.PatientBuilder;
+
+public class AppointmentCalendarTest {
+
+    private static final Date DATE = new Date("22.11.2030");
+    private static final Date OTHER_DATE = new Date("23.11.2030");
+
+    private static final Doctor MORNING_DOCTOR = new DoctorBuilder().withName("Morning").withNric("S6219609B")
+            .withAppointments("22.11.2030,0900,1000,Morning,S6219609B,Bob,S3869036A",
+                    "23.11.2030,1300,1400,Morning,S6219609B,Bob,S3869036A").build();
+    private static final Doctor AFTERNOON_DOCTOR = new DoctorBuilder().withName("Afternoon").withNric("S1065265J")
+            .withAppointments("22.11.2030,1300,1400,Afternoon,S1065265J,Bob,S3869036A").build();
+
+    private final AppointmentCalendar calendar =
+            new AppointmentCalendar(Arrays.asList(MORNING_DOCTOR, AFTERNOON_DOCTOR, ALICE));
+
+    @Test
+    public void getBusyDoctors_noAppointmentsOnDate_returnsEmptySet() {
+        assertTrue(calendar.getBusyDoctors(new Date("24.11.2030"), new Time("0000"), new Time("2359")).isEmpty());
+    }
+
+    @Test
+    public void getBusyDoctors_overlappingPeriod_returnsBusyDoctors() {
+        assertEquals(Collections.singleton(MORNING_DOCTOR.getNric()),
+                calendar.getBusyDoctors(DATE, new Time("0930"), new Time("0930")));
+        assertEquals(Collections.singleton(AFTERNOON_DOCTOR.getNric()),
+                calendar.getBusyDoctors(DATE, new Time("1400"), new Time("1500")));
+        assertEquals(2, calendar.getBusyDoctors(DATE, new Time("0800"), new Time("1800")).size());
+        assertTrue(calendar.getBusyDoctors(DATE, new Time("1001"), new Time("1259")).isEmpty());
+    }
+
+    @Test
+    public void getAvailableDoctors_overlappingPeriod_returnsOtherDoctors() {
+        assertEquals(Collections.singleton(AFTERNOON_DOCTOR.getNric()),
+                calendar.getAvailableDoctors(DATE, new Time("0930"), new Time("0930")));
+        assertEquals(new HashSet<>(Arrays.asList(MORNING_DOCTOR.getNric(), AFTERNOON_DOCTOR.getNric())),
+                calendar.getAvailableDoctors(new Date("24.11.2030"), new Time("0000"), new Time("2359")));
+        assertTrue(calendar.getAvailableDoctors(DATE, new Time("0800"), new Time("1800")).isEmpty());
+    }
+
+    @Test
+    public void getAvailableDoctors_calendarChanged_returnedSetUnchanged() {
+        Set<Nric> availableDoctors = calendar.getAvailableDoctors(DATE, new Time("0930"), new Time("0930"));
+        calendar.remove(AFTERNOON_DOCTOR.getNric());
+        assertEquals(Collections.singleton(AFTERNOON_DOCTOR.getNric()), availableDoctors);
+        assertTrue(calendar.getAvailableDoctors(DATE, new Time("0930"), new Time("0930")).isEmpty());
+    }
+
+    @Test
+    public void remove_doctor_noLongerBusy() {
+        calendar.remove(MORNING_DOCTOR.getNric());
+        assertTrue(calendar.getBusyDoctors(DATE, new Time("0900"), new Time("1000")).isEmpty());
+        assertTrue(calendar.getBusyDoctors(OTHER_DATE, new Time("1300"), new Time("1400")).isEmpty());
+    }
+
+    @Test
+    public void update_rescheduledDoctor_busyAtNewTimeOnly() {
+        Doctor rescheduled = new DoctorBuilder(AFTERNOON_DOCTOR)
+                .withAppointments("23.11.2030,0800,0900,Afternoon,S1065265J,Bob,S3869036A").build();
+        calendar.update(AFTERNOON_DOCTOR, rescheduled);
+        assertTrue(calendar.getBusyDoctors(DATE, new Time("1300"), new Time("1400")).isEmpty());
+        assertEquals(Collections.singleton(AFTERNOON_DOCTOR.getNric()),
+                calendar.getBusyDoctors(OTHER_DATE, new Time("0830"), new Time("0830")));
+    }
+
+    @Test
+    public void add_patient_ignored() {
+        AppointmentCalendar patientsOnly = new AppointmentCalendar();
+        patientsOnly.add(new PatientBuilder().withAppointments(
+                "22.11.2030,0900,1000,Morning,S6219609B,Bob,S3869036A").build());
+        assertTrue(patientsOnly.getBusyDoctors(DATE, new Time("0900"), new Time("1000")).isEmpty());
+    }
+}
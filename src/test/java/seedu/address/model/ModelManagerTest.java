@@ -1,28 +1,44 @@
 package seedu.address.model;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_GLOBAL;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
 
 import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.Rule;
 import org.junit.Test;
 import org.junit.rules.ExpectedException;
 
+import seedu.address.commons.events.model.PersonChangedEvent;
+import seedu.address.model.doctor.Doctor;
+import seedu.address.model.patient.Patient;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonContainsKeywordsPredicate;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.DoctorBuilder;
+import seedu.address.testutil.PatientBuilder;
+import seedu.address.ui.testutil.EventsCollectorRule;
 
 public class ModelManagerTest {
     @Rule
     public ExpectedException thrown = ExpectedException.none();
 
+    @Rule
+    public final EventsCollectorRule eventsCollectorRule = new EventsCollectorRule();
+
     private ModelManager modelManager = new ModelManager();
 
     @Test
@@ -48,6 +64,151 @@ public class ModelManagerTest {
         modelManager.getFilteredPersonList().remove(0);
     }
 
+    @Test
+    public void awaitInitialData_initialDataLoaded_replacesEmptyAddressBookWithoutHistory() {
+        CompletableFuture<AddressBook> initialData = new CompletableFuture<>();
+        modelManager = new ModelManager(initialData, new UserPrefs());
+        assertTrue(modelManager.getFilteredPersonList().isEmpty());
+
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        initialData.complete(addressBook);
+        modelManager.awaitInitialData();
+        assertEquals(addressBook, new AddressBook(modelManager.getAddressBook()));
+        assertEquals(addressBook.getPersonList(), modelManager.getFilteredPersonList());
+        assertFalse(modelManager.canUndoAddressBook());
+
+        // later calls do not replace the address book again
+        modelManager.deletePerson(ALICE);
+        modelManager.awaitInitialData();
+        assertFalse(modelManager.hasPerson(ALICE));
+    }
+
+    @Test
+    public void createClientModel_sharesDatabaseButNotFilteredList() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        Model clientModel = modelManager.createClientModel();
+        assertEquals(modelManager.getDatabaseLock(), clientModel.getDatabaseLock());
+
+        // the filtered list of one model is not changed by the other
+        clientModel.updateFilteredPersonList(person -> person.equals(BENSON));
+        assertEquals(List.of(BENSON), clientModel.getFilteredPersonList());
+        assertEquals(List.of(ALICE, BENSON), modelManager.getFilteredPersonList());
+
+        // but the persons are changed for both
+        modelManager.deletePerson(BENSON);
+        assertFalse(clientModel.hasPerson(BENSON));
+        assertTrue(clientModel.getFilteredPersonList().isEmpty());
+        clientModel.deletePerson(ALICE);
+        assertTrue(modelManager.getFilteredPersonList().isEmpty());
+    }
+
+    @Test
+    public void close_clientModel_stopsListingPersons() {
+        modelManager.addPerson(ALICE);
+        Model clientModel = modelManager.createClientModel();
+        clientModel.close();
+        assertTrue(clientModel.getFilteredPersonList().isEmpty());
+
+        // the database is still served by the model it was created from
+        modelManager.addPerson(BENSON);
+        assertEquals(List.of(ALICE, BENSON), modelManager.getFilteredPersonList());
+        assertTrue(clientModel.getFilteredPersonList().isEmpty());
+    }
+
+    @Test
+    public void transaction_severalChanges_raisesEventsOnce() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        Person editedBenson = new PatientBuilder(BENSON).withPhone("99999999").build();
+        eventsCollectorRule.eventsCollector.reset();
+
+        modelManager.transaction(model -> {
+            model.deletePerson(ALICE);
+            model.updatePerson(BENSON, editedBenson);
+        });
+        assertEquals(2, eventsCollectorRule.eventsCollector.getSize());
+        PersonChangedEvent personChangedEvent =
+                (PersonChangedEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertEquals(Set.of(ALICE.getNric()), personChangedEvent.removedNrics);
+        assertEquals(Map.of(BENSON.getNric(), editedBenson), personChangedEvent.replacedPersons);
+        assertEquals(List.of(editedBenson), modelManager.getAddressBook().getPersonList());
+
+        // a transaction that changes nothing raises no events
+        eventsCollectorRule.eventsCollector.reset();
+        modelManager.transaction(model -> model.getPerson(ALICE.getNric()));
+        assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+    }
+
+    @Test
+    public void transaction_mutationsThrow_restoresDatabase() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        eventsCollectorRule.eventsCollector.reset();
+
+        try {
+            modelManager.transaction(model -> {
+                model.deletePerson(ALICE);
+                model.addPerson(CARL);
+                model.updatePerson(BENSON, new PatientBuilder(BENSON).withPhone("99999999").build());
+                throw new IllegalStateException();
+            });
+            fail();
+        } catch (IllegalStateException ise) {
+            assertEquals(List.of(ALICE, BENSON), modelManager.getAddressBook().getPersonList());
+            assertTrue(eventsCollectorRule.eventsCollector.isEmpty());
+        }
+    }
+
+    @Test
+    public void transaction_scheduleAppointment_personsListedAsReplaced() {
+        String appointment = "22.11.2018,1300,1400,Jill,S6219609B,Jack,S3869036A";
+        Patient jack = new PatientBuilder().withName("Jack").withNric("S3869036A").build();
+        Doctor jill = new DoctorBuilder().withName("Jill").withNric("S6219609B").build();
+        Person scheduledJack = new PatientBuilder(jack).withAppointment(appointment).build();
+        Person scheduledJill = new DoctorBuilder(jill).withAppointment(appointment).build();
+        modelManager.addPerson(jack);
+        modelManager.addPerson(jill);
+        eventsCollectorRule.eventsCollector.reset();
+
+        modelManager.transaction(model -> {
+            model.updatePerson(jack, scheduledJack);
+            model.updatePerson(jill, scheduledJill);
+        });
+        PersonChangedEvent personChangedEvent =
+                (PersonChangedEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertEquals(Map.of(jack.getNric(), scheduledJack, jill.getNric(), scheduledJill),
+                personChangedEvent.replacedPersons);
+    }
+
+    @Test
+    public void clearActiveDatabase_patientsWithAppointments_removesAppointmentsOfDoctors() {
+        String appointmentWithJack = "22.11.2018,1300,1400,Jill,S6219609B,Jack,S3869036A";
+        String appointmentWithBob = "23.11.2018,1300,1400,Jill,S6219609B,Bob,S0654313H";
+        Person jack = new PatientBuilder().withName("Jack").withNric("S3869036A")
+                .withAppointment(appointmentWithJack).build();
+        Person bob = new PatientBuilder().withName("Bob").withNric("S0654313H")
+                .withAppointment(appointmentWithBob).build();
+        Doctor jill = new DoctorBuilder().withName("Jill").withNric("S6219609B")
+                .withAppointments(appointmentWithJack, appointmentWithBob).build();
+        AddressBook addressBook = new AddressBookBuilder().withPerson(jack).withPerson(jill).withPerson(bob).build();
+        modelManager = new ModelManager(addressBook, new UserPrefs());
+        modelManager.changeDatabase(person -> person instanceof Patient, "PATIENT");
+
+        modelManager.clearActiveDatabase();
+        PersonChangedEvent personChangedEvent =
+                (PersonChangedEvent) eventsCollectorRule.eventsCollector.getMostRecent();
+        assertEquals(Set.of(jack.getNric(), bob.getNric()), personChangedEvent.removedNrics);
+        assertEquals(Set.of(jill.getNric()), personChangedEvent.replacedPersons.keySet());
+        modelManager.commitAddressBook();
+        assertEquals(List.of(new DoctorBuilder(jill).withAppointments().build()),
+                modelManager.getAddressBook().getPersonList());
+
+        // the patients and their appointments are restored together
+        modelManager.undoAddressBook();
+        assertEquals(addressBook.getPersonList(), modelManager.getAddressBook().getPersonList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
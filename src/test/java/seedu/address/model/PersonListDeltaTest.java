@@ -0,0 +1,90 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NRIC_AMY;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.Test;
+
+import seedu.address.commons.events.model.PersonChangedEvent;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PatientBuilder;
+
+public class PersonListDeltaTest {
+
+    @Test
+    public void toPersonChangedEvent_changedPersons_onlyChangesListed() {
+        Person editedBenson = new PatientBuilder(BENSON).withName("Benson Kurz").build();
+        Person editedCarl = new PatientBuilder(CARL).withNric(VALID_NRIC_AMY).build();
+        PersonListDelta delta = new PersonListDelta();
+        delta.recordRemove(ALICE, 0);
+        delta.recordReplace(BENSON, editedBenson);
+        delta.recordReplace(CARL, editedCarl);
+        delta.recordAdd(DANIEL, 2);
+
+        PersonChangedEvent event = delta.toPersonChangedEvent();
+
+        assertEquals(Set.of(DANIEL.getNric(), editedCarl.getNric()), event.addedNrics);
+        assertEquals(Set.of(ALICE.getNric(), CARL.getNric()), event.removedNrics);
+        assertEquals(Map.of(BENSON.getNric(), editedBenson), event.replacedPersons);
+    }
+
+    @Test
+    public void toPersonChangedEvent_onlyAppointmentsChanged_personReplaced() {
+        Person scheduledBenson = new PatientBuilder(BENSON)
+                .withAppointments("22.11.2018,1300,1400,Benson Meier,S1215130F,Jack,S3869036A").build();
+        PersonListDelta delta = new PersonListDelta();
+        delta.recordReplace(BENSON, scheduledBenson);
+
+        PersonChangedEvent event = delta.toPersonChangedEvent();
+
+        assertTrue(event.addedNrics.isEmpty());
+        assertTrue(event.removedNrics.isEmpty());
+        assertEquals(Map.of(BENSON.getNric(), scheduledBenson), event.replacedPersons);
+    }
+
+    @Test
+    public void toPersonChangedEvent_changesCancelOut_noChanges() {
+        PersonListDelta delta = new PersonListDelta();
+        delta.recordAdd(DANIEL, 2);
+        delta.recordRemove(DANIEL, 2);
+        delta.recordRemove(ALICE, 0);
+        delta.recordAdd(ALICE, 0);
+        delta.recordReset(Arrays.asList(BENSON, ELLE), Arrays.asList(ELLE, BENSON));
+
+        PersonChangedEvent event = delta.toPersonChangedEvent();
+
+        assertTrue(event.addedNrics.isEmpty());
+        assertTrue(event.removedNrics.isEmpty());
+        assertTrue(event.replacedPersons.isEmpty());
+    }
+
+    @Test
+    public void undo_removalsAndAdditions_personListRestored() {
+        AddressBook addressBook = new AddressBook();
+        Arrays.asList(ALICE, BENSON, CARL, DANIEL).forEach(addressBook::addPerson);
+        PersonListDelta delta = new PersonListDelta();
+
+        addressBook.removePerson(DANIEL);
+        delta.recordRemove(DANIEL, 3);
+        addressBook.removePerson(BENSON);
+        delta.recordRemove(BENSON, 1);
+        addressBook.addPerson(0, ELLE);
+        delta.recordAdd(ELLE, 0);
+
+        delta.undo(addressBook);
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL, DANIEL), addressBook.getPersonList());
+
+        delta.redo(addressBook);
+        assertEquals(Arrays.asList(ELLE, ALICE, CARL), addressBook.getPersonList());
+    }
+}
@@ -0,0 +1,57 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.FilteredList;
+import seedu.address.model.person.Nric;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PatientBuilder;
+
+public class PersonListFilterTest {
+
+    private static final Predicate<Person> NRIC_ENDS_WITH_A = person -> person.getNric().toString().endsWith("A");
+
+    @Test
+    public void precompute_smallList_returnsPredicate() {
+        assertSame(NRIC_ENDS_WITH_A, PersonListFilter.precompute(List.of(ALICE, BENSON), NRIC_ENDS_WITH_A));
+    }
+
+    @Test
+    public void precompute_largeList_sameResultsAsPredicate() {
+        ObservableList<Person> persons = FXCollections.observableArrayList(
+                createPersons(PersonListFilter.PARALLEL_THRESHOLD * 2 + 1));
+        FilteredList<Person> filteredPersons = new FilteredList<>(persons);
+
+        filteredPersons.setPredicate(PersonListFilter.precompute(persons, NRIC_ENDS_WITH_A));
+        assertEquals(persons.stream().filter(NRIC_ENDS_WITH_A).collect(Collectors.toList()), filteredPersons);
+
+        // persons added after the results were computed are tested against the predicate
+        Person addedPerson = new PatientBuilder(ALICE).withNric("S" + Nric.generateCode(9999999)).build();
+        persons.add(0, addedPerson);
+        persons.remove(1);
+        assertEquals(persons.stream().filter(NRIC_ENDS_WITH_A).collect(Collectors.toList()), filteredPersons);
+    }
+
+    /**
+     * Returns {@code count} patients with distinct NRICs.
+     */
+    private static List<Person> createPersons(int count) {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            persons.add(new PatientBuilder(ALICE).withNric("S" + Nric.generateCode(1000000 + i)).build());
+        }
+        return persons;
+    }
+}
@@ -0,0 +1,111 @@
+package seedu.address.model;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PatientBuilder;
+
+public class PersonListSnapshotTest {
+
+    @Test
+    public void of_emptyList_emptySnapshot() {
+        assertEquals(Collections.emptyList(), PersonListSnapshot.of(Collections.emptyList(), null).asList());
+    }
+
+    @Test
+    public void of_personReplaced_otherChunksShared() {
+        List<Person> persons = createPersons(PersonListSnapshot.CHUNK_SIZE * 32);
+        PersonListSnapshot previous = PersonListSnapshot.of(persons, null);
+
+        persons.set(persons.size() / 2, BOB);
+        PersonListSnapshot next = PersonListSnapshot.of(persons, previous);
+
+        assertEquals(persons, next.asList());
+        assertCopiesFewChunks(next, previous);
+
+        // earlier snapshot is unaffected
+        assertEquals(ALICE, previous.asList().get(persons.size() / 2));
+    }
+
+    @Test
+    public void of_personDeletedNearFront_laterChunksShared() {
+        List<Person> persons = createPersons(PersonListSnapshot.CHUNK_SIZE * 32);
+        PersonListSnapshot previous = PersonListSnapshot.of(persons, null);
+
+        // shifts the position of every later person
+        Person deletedPerson = persons.remove(1);
+        PersonListSnapshot next = PersonListSnapshot.of(persons, previous);
+
+        assertEquals(persons, next.asList());
+        assertCopiesFewChunks(next, previous);
+        assertEquals(deletedPerson, previous.asList().get(1));
+    }
+
+    @Test
+    public void of_personInsertedAtFront_laterChunksShared() {
+        List<Person> persons = createPersons(PersonListSnapshot.CHUNK_SIZE * 32);
+        PersonListSnapshot previous = PersonListSnapshot.of(persons, null);
+
+        persons.add(0, BOB);
+        PersonListSnapshot next = PersonListSnapshot.of(persons, previous);
+
+        assertEquals(persons, next.asList());
+        assertCopiesFewChunks(next, previous);
+    }
+
+    @Test
+    public void of_personAppended_earlierChunksShared() {
+        List<Person> persons = createPersons(PersonListSnapshot.CHUNK_SIZE * 32);
+        PersonListSnapshot previous = PersonListSnapshot.of(persons, null);
+
+        persons.add(BOB);
+        PersonListSnapshot next = PersonListSnapshot.of(persons, previous);
+
+        assertEquals(persons, next.asList());
+        assertCopiesFewChunks(next, previous);
+    }
+
+    @Test
+    public void equals() {
+        List<Person> persons = createPersons(3);
+        PersonListSnapshot snapshot = PersonListSnapshot.of(persons, null);
+
+        assertTrue(snapshot.equals(snapshot));
+        assertTrue(snapshot.equals(PersonListSnapshot.of(new ArrayList<>(persons), null)));
+        assertEquals(snapshot.hashCode(), PersonListSnapshot.of(new ArrayList<>(persons), null).hashCode());
+        assertNotEquals(snapshot, PersonListSnapshot.of(createPersons(2), null));
+        assertFalse(snapshot.equals(null));
+    }
+
+    /**
+     * Asserts that {@code next} copied only the few chunks around a single change from {@code previous}.
+     */
+    private void assertCopiesFewChunks(PersonListSnapshot next, PersonListSnapshot previous) {
+        int copiedChunkCount = next.getChunkCount() - next.countChunksSharedWith(previous);
+        assertTrue("copied " + copiedChunkCount + " of " + next.getChunkCount() + " chunks",
+                copiedChunkCount <= 3);
+        assertTrue(next.getChunkCount() > 3);
+    }
+
+    /**
+     * Returns a mutable list of {@code count} distinct instances of {@code ALICE}.
+     */
+    private List<Person> createPersons(int count) {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            persons.add(new PatientBuilder(ALICE).build());
+        }
+        return persons;
+    }
+}
@@ -4,6 +4,7 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.testutil.TypicalPersons.AMY;
 import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.CARL;
@@ -11,10 +12,15 @@ import static seedu.address.testutil.TypicalPersons.CARL;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.junit.Test;
 
+import seedu.address.commons.events.model.PersonChangedEvent;
+import seedu.address.model.person.Person;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.PatientBuilder;
 
 public class VersionedAddressBookTest {
 
@@ -207,6 +213,188 @@ public class VersionedAddressBookTest {
         assertThrows(VersionedAddressBook.NoRedoableStateException.class, versionedAddressBook::redo);
     }
 
+    @Test
+    public void commit_historyDeeperThanCap_oldestStatesDropped() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(emptyAddressBook, 1,
+                VersionedAddressBook.HistoryMode.SNAPSHOT);
+        versionedAddressBook.resetData(addressBookWithAmy);
+        versionedAddressBook.commit();
+        versionedAddressBook.resetData(addressBookWithBob);
+        versionedAddressBook.commit();
+
+        assertAddressBookListStatus(versionedAddressBook,
+                Collections.singletonList(addressBookWithAmy),
+                addressBookWithBob,
+                Collections.emptyList());
+    }
+
+    @Test
+    public void constructor_negativeHistoryDepth_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new VersionedAddressBook(emptyAddressBook, -1,
+                VersionedAddressBook.HistoryMode.SNAPSHOT));
+    }
+
+    @Test
+    public void undoRedo_deltaMode_restoresStatesInOrder() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(addressBookWithAmy,
+                UserPrefs.DEFAULT_HISTORY_DEPTH, VersionedAddressBook.HistoryMode.DELTA);
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.addPerson(CARL);
+        versionedAddressBook.commit();
+        AddressBook amyBobCarl = new AddressBook(versionedAddressBook);
+
+        versionedAddressBook.removePerson(BOB);
+        versionedAddressBook.commit();
+        AddressBook amyCarl = new AddressBook(versionedAddressBook);
+
+        Person editedCarl = new PatientBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build();
+        versionedAddressBook.updatePerson(CARL, editedCarl);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.undo();
+        assertEquals(amyCarl, new AddressBook(versionedAddressBook));
+        versionedAddressBook.undo();
+        assertEquals(amyBobCarl.getPersonList(), versionedAddressBook.getPersonList());
+        versionedAddressBook.undo();
+        assertEquals(addressBookWithAmy, new AddressBook(versionedAddressBook));
+        assertFalse(versionedAddressBook.canUndo());
+
+        versionedAddressBook.redo();
+        versionedAddressBook.redo();
+        versionedAddressBook.redo();
+        assertEquals(Arrays.asList(AMY, editedCarl), versionedAddressBook.getPersonList());
+        assertFalse(versionedAddressBook.canRedo());
+    }
+
+    @Test
+    public void equals_deltaMode_comparesCurrentState() {
+        VersionedAddressBook scheduled = new VersionedAddressBook(addressBookWithAmy,
+                UserPrefs.DEFAULT_HISTORY_DEPTH, VersionedAddressBook.HistoryMode.DELTA);
+        scheduled.updatePerson(AMY, new PatientBuilder(AMY)
+                .withAppointment("22.11.2030,1330,1430,Elle Meyer,S6977714G,Amy Bee,S8998334G").build());
+        scheduled.commit();
+
+        // the same state reached with different changes -> returns true
+        VersionedAddressBook removedAndAdded = new VersionedAddressBook(addressBookWithAmy,
+                UserPrefs.DEFAULT_HISTORY_DEPTH, VersionedAddressBook.HistoryMode.DELTA);
+        removedAndAdded.removePerson(AMY);
+        removedAndAdded.addPerson(new PatientBuilder(AMY)
+                .withAppointment("22.11.2030,1330,1430,Elle Meyer,S6977714G,Amy Bee,S8998334G").build());
+        removedAndAdded.commit();
+        assertTrue(scheduled.equals(removedAndAdded));
+
+        // different persons -> returns false
+        VersionedAddressBook removed = new VersionedAddressBook(addressBookWithAmy,
+                UserPrefs.DEFAULT_HISTORY_DEPTH, VersionedAddressBook.HistoryMode.DELTA);
+        removed.removePerson(AMY);
+        removed.commit();
+        assertFalse(scheduled.equals(removed));
+
+        // same persons, but the change is undone -> returns false
+        removedAndAdded.undo();
+        removedAndAdded.updatePerson(AMY, new PatientBuilder(AMY)
+                .withAppointment("22.11.2030,1330,1430,Elle Meyer,S6977714G,Amy Bee,S8998334G").build());
+        assertFalse(scheduled.equals(removedAndAdded));
+    }
+
+    @Test
+    public void undo_deltaModeWithUncommittedChanges_uncommittedChangesDiscarded() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(emptyAddressBook,
+                UserPrefs.DEFAULT_HISTORY_DEPTH, VersionedAddressBook.HistoryMode.DELTA);
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.commit();
+        versionedAddressBook.addPerson(BOB);
+
+        versionedAddressBook.undo();
+        assertEquals(emptyAddressBook, new AddressBook(versionedAddressBook));
+
+        versionedAddressBook.redo();
+        assertEquals(addressBookWithAmy, new AddressBook(versionedAddressBook));
+    }
+
+    @Test
+    public void removePersons_deltaModeUndone_personsReinsertedInPlace() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(emptyAddressBook,
+                UserPrefs.DEFAULT_HISTORY_DEPTH, VersionedAddressBook.HistoryMode.DELTA);
+        versionedAddressBook.addPerson(AMY);
+        versionedAddressBook.addPerson(BOB);
+        versionedAddressBook.addPerson(CARL);
+        versionedAddressBook.commit();
+
+        versionedAddressBook.removePersons(Arrays.asList(CARL, AMY));
+        versionedAddressBook.commit();
+        assertEquals(Collections.singletonList(BOB), versionedAddressBook.getPersonList());
+
+        versionedAddressBook.undo();
+        assertEquals(Arrays.asList(AMY, BOB, CARL), versionedAddressBook.getPersonList());
+    }
+
+    @Test
+    public void stopRecordingChanges_undoAndRedo_onlyChangedPersonsListed() {
+        for (VersionedAddressBook.HistoryMode historyMode : VersionedAddressBook.HistoryMode.values()) {
+            VersionedAddressBook versionedAddressBook = new VersionedAddressBook(addressBookWithAmy,
+                    UserPrefs.DEFAULT_HISTORY_DEPTH, historyMode);
+            versionedAddressBook.addPerson(BOB);
+            versionedAddressBook.addPerson(CARL);
+            versionedAddressBook.commit();
+            Person editedCarl = new PatientBuilder(CARL).withAddress(VALID_ADDRESS_BOB).build();
+            versionedAddressBook.removePerson(BOB);
+            versionedAddressBook.updatePerson(CARL, editedCarl);
+            versionedAddressBook.commit();
+
+            versionedAddressBook.startRecordingChanges();
+            versionedAddressBook.undo();
+            PersonChangedEvent event = versionedAddressBook.stopRecordingChanges().toPersonChangedEvent();
+            assertEquals(Set.of(BOB.getNric()), event.addedNrics);
+            assertTrue(event.removedNrics.isEmpty());
+            assertEquals(Map.of(CARL.getNric(), CARL), event.replacedPersons);
+
+            versionedAddressBook.startRecordingChanges();
+            versionedAddressBook.redo();
+            event = versionedAddressBook.stopRecordingChanges().toPersonChangedEvent();
+            assertTrue(event.addedNrics.isEmpty());
+            assertEquals(Set.of(BOB.getNric()), event.removedNrics);
+            assertEquals(Map.of(CARL.getNric(), editedCarl), event.replacedPersons);
+        }
+    }
+
+    @Test
+    public void resetHistory_withHistory_newDataIsOnlyState() {
+        for (VersionedAddressBook.HistoryMode historyMode : VersionedAddressBook.HistoryMode.values()) {
+            VersionedAddressBook versionedAddressBook = new VersionedAddressBook(emptyAddressBook,
+                    UserPrefs.DEFAULT_HISTORY_DEPTH, historyMode);
+            versionedAddressBook.addPerson(AMY);
+            versionedAddressBook.commit();
+            versionedAddressBook.addPerson(BOB);
+
+            versionedAddressBook.resetHistory(addressBookWithCarl);
+            assertAddressBookListStatus(versionedAddressBook,
+                    Collections.emptyList(),
+                    addressBookWithCarl,
+                    Collections.emptyList());
+
+            versionedAddressBook.addPerson(AMY);
+            versionedAddressBook.commit();
+            versionedAddressBook.undo();
+            assertEquals(addressBookWithCarl, new AddressBook(versionedAddressBook));
+        }
+    }
+
+    @Test
+    public void commit_deltaModeHistoryDeeperThanCap_oldestStatesDropped() {
+        VersionedAddressBook versionedAddressBook = new VersionedAddressBook(emptyAddressBook, 1,
+                VersionedAddressBook.HistoryMode.DELTA);
+        versionedAddressBook.resetData(addressBookWithAmy);
+        versionedAddressBook.commit();
+        versionedAddressBook.resetData(addressBookWithBob);
+        versionedAddressBook.commit();
+
+        assertAddressBookListStatus(versionedAddressBook,
+                Collections.singletonList(addressBookWithAmy),
+                addressBookWithBob,
+                Collections.emptyList());
+    }
+
     @Test
     public void equals() {
         VersionedAddressBook versionedAddressBook = prepareAddressBookList(addressBookWithAmy, addressBookWithBob);
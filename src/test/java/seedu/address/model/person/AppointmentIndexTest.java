@@ -0,0 +1,89 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+
+import seedu.address.testutil.Assert;
+
+public class AppointmentIndexTest {
+
+    private static final Appointment MORNING = new Appointment("22.11.2018", "0900", "1000",
+            "Alice", "S6219609B", "Bob", "S3869036A");
+    private static final Appointment AFTERNOON = new Appointment("22.11.2018", "1300", "1400",
+            "Alice", "S6219609B", "Bob", "S3869036A");
+    private static final Appointment LONG_NEXT_DAY = new Appointment("23.11.2018", "0800", "1800",
+            "Alice", "S6219609B", "Bob", "S3869036A");
+
+    private final AppointmentIndex index = new AppointmentIndex(Arrays.asList(AFTERNOON, LONG_NEXT_DAY, MORNING));
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> new AppointmentIndex(null));
+    }
+
+    @Test
+    public void isClash_emptyIndex_returnsFalse() {
+        assertFalse(new AppointmentIndex(Collections.emptyList()).isClash(MORNING));
+    }
+
+    @Test
+    public void isClash_emptyAppointmentsIgnored_returnsFalse() {
+        AppointmentIndex indexWithEmpty = new AppointmentIndex(Collections.singletonList(new Appointment("")));
+        assertFalse(indexWithEmpty.isClash(MORNING));
+        assertEquals(1, indexWithEmpty.size());
+    }
+
+    @Test
+    public void isClash_overlappingAppointments_returnsTrue() {
+        // enclosing
+        assertTrue(index.isClash(new Appointment("22.11.2018", "1200", "1500",
+                "Jeff", "S6219609B", "Seid", "S3869036A")));
+        // enclosed
+        assertTrue(index.isClash(new Appointment("22.11.2018", "1310", "1320",
+                "Jeff", "S6219609B", "Seid", "S3869036A")));
+        // touching the end of an earlier appointment
+        assertTrue(index.isClash(new Appointment("22.11.2018", "1000", "1100",
+                "Jeff", "S6219609B", "Seid", "S3869036A")));
+        // touching the start of a later appointment
+        assertTrue(index.isClash(new Appointment("22.11.2018", "1100", "1300",
+                "Jeff", "S6219609B", "Seid", "S3869036A")));
+        // long appointment on a different day in the same index
+        assertTrue(index.isClash(new Appointment("23.11.2018", "1700", "1900",
+                "Jeff", "S6219609B", "Seid", "S3869036A")));
+    }
+
+    @Test
+    public void isClash_nonOverlappingAppointments_returnsFalse() {
+        // gap between appointments
+        assertFalse(index.isClash(new Appointment("22.11.2018", "1001", "1259",
+                "Jeff", "S6219609B", "Seid", "S3869036A")));
+        // after the last appointment
+        assertFalse(index.isClash(new Appointment("22.11.2018", "1401", "1500",
+                "Jeff", "S6219609B", "Seid", "S3869036A")));
+        // different date
+        assertFalse(index.isClash(new Appointment("24.11.2018", "1300", "1400",
+                "Jeff", "S6219609B", "Seid", "S3869036A")));
+    }
+
+    @Test
+    public void isClash_agreesWithAppointmentManager() {
+        ArrayList<Appointment> appointments = new ArrayList<>(Arrays.asList(MORNING, AFTERNOON, LONG_NEXT_DAY));
+        String[] times = {"0700", "0900", "0930", "1000", "1200", "1300", "1400", "1700", "2000"};
+        for (String date : new String[] {"22.11.2018", "23.11.2018"}) {
+            for (int i = 0; i < times.length; i++) {
+                for (int j = i + 1; j < times.length; j++) {
+                    Appointment query = new Appointment(date, times[i], times[j],
+                            "Jeff", "S6219609B", "Seid", "S3869036A");
+                    assertEquals(AppointmentManager.isClash(appointments, query), index.isClash(query));
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import seedu.address.testutil.Assert;
+
+public class DateTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        Assert.assertThrows(NullPointerException.class, () -> new Date(null));
+    }
+
+    @Test
+    public void equals() {
+        Date date = new Date("1.2.2030");
+
+        // same calendar day, different padding -> returns true
+        assertTrue(date.equals(new Date("01.02.2030")));
+        assertEquals(date.hashCode(), new Date("01.02.2030").hashCode());
+
+        // different day -> returns false
+        assertFalse(date.equals(new Date("2.2.2030")));
+
+        // dates that do not exist are compared by string
+        assertTrue(new Date("31.2.2030").equals(new Date("31.2.2030")));
+        assertFalse(new Date("31.2.2030").equals(new Date("31.02.2030")));
+        assertFalse(new Date("23.13").equals(date));
+
+        // different types -> returns false
+        assertFalse(date.equals("1.2.2030"));
+
+        // null -> returns false
+        assertFalse(date.equals(null));
+    }
+
+    @Test
+    public void compareTo_chronologicalOrder() {
+        assertTrue(new Date("31.12.2029").compareTo(new Date("1.1.2030")) < 0);
+        assertTrue(new Date("2.1.2030").compareTo(new Date("1.1.2030")) > 0);
+        assertEquals(0, new Date("01.01.2030").compareTo(new Date("1.1.2030")));
+        assertTrue(new Date("31.2.2030").compareTo(new Date("1.1.1970")) < 0);
+    }
+
+    @Test
+    public void isValid() {
+        assertTrue(new Date("29.2.2032").isValid());
+        assertFalse(new Date("29.2.2031").isValid());
+        assertFalse(new Date("1.1.2000").isValid());
+        assertFalse(new Date("23.13").isValid());
+        assertFalse(new Date("1.0.2030").isValid()); // month does not exist
+        assertFalse(new Date("1.13.2030").isValid());
+        assertNotEquals("Date is valid.", new Date("1.1.2000").getInvalidReason());
+        assertTrue(new Date("31.2.2000").getInvalidReason().startsWith("This date is in the past"));
+        assertTrue(new Date("31.2.2099").getInvalidReason().startsWith("This date does not exist"));
+    }
+}
@@ -1,8 +1,11 @@
 package seedu.address.model.person;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.Locale;
+
 import org.junit.Test;
 
 import seedu.address.testutil.Assert;
@@ -62,4 +65,23 @@ public class NricTest {
         assertTrue(Nric.isValidNric("T3569534B")); // start with T
         assertTrue(Nric.isValidNric("G6189344Q")); // start with G
     }
+
+    @Test
+    public void hashCode_differentCase_sameHashCode() {
+        assertTrue(new Nric("s2200025z").equals(new Nric("S2200025Z")));
+        assertEquals(new Nric("s2200025z").hashCode(), new Nric("S2200025Z").hashCode());
+    }
+
+    @Test
+    public void equals_differentCaseInTurkishLocale_returnsTrue() {
+        Locale defaultLocale = Locale.getDefault();
+        // the lower case i is not upper cased to I in the Turkish locale
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            assertTrue(new Nric("s0000001i").equals(new Nric("S0000001I")));
+            assertEquals(new Nric("s0000001i").hashCode(), new Nric("S0000001I").hashCode());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
 }
@@ -0,0 +1,104 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_GLOBAL;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MEDICAL_DEPARTMENT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import seedu.address.logic.parser.Prefix;
+import seedu.address.testutil.PatientBuilder;
+
+public class PersonSearchIndexTest {
+
+    private final List<Person> persons = getTypicalPersons();
+    private final PersonSearchIndex index = new PersonSearchIndex(persons);
+
+    @Test
+    public void find_keywords_sameResultsAsPredicate() {
+        assertSameResultsAsPredicate(Map.of(PREFIX_GLOBAL, Arrays.asList("meier", "KURZ")));
+        assertSameResultsAsPredicate(Map.of(PREFIX_GLOBAL, Collections.singletonList("ali")));
+        assertSameResultsAsPredicate(Map.of(PREFIX_GLOBAL, Collections.singletonList("Jurong West")));
+        assertSameResultsAsPredicate(Map.of(PREFIX_GLOBAL, Collections.singletonList("street patient")));
+        assertSameResultsAsPredicate(Map.of(PREFIX_GLOBAL, Collections.singletonList("nonexistent")));
+        assertSameResultsAsPredicate(Map.of(PREFIX_NAME, Collections.singletonList("e m")));
+        assertSameResultsAsPredicate(Map.of(PREFIX_ADDRESS, Collections.singletonList("123,")));
+        assertSameResultsAsPredicate(Map.of(PREFIX_PHONE, Collections.singletonList("948")));
+        assertSameResultsAsPredicate(Map.of(PREFIX_TAG, Collections.singletonList("friends")));
+        assertSameResultsAsPredicate(Map.of(PREFIX_MEDICAL_DEPARTMENT, Collections.singletonList("logy")));
+        assertSameResultsAsPredicate(Map.of(PREFIX_ROLE, Collections.singletonList("doctor"),
+                PREFIX_NAME, Arrays.asList("elle", "ida", "alice")));
+        assertSameResultsAsPredicate(Map.of(PREFIX_GLOBAL, Collections.emptyList()));
+
+        // keywords shorter than a trigram
+        assertSameResultsAsPredicate(Map.of(PREFIX_NAME, Collections.singletonList("li")));
+        assertSameResultsAsPredicate(Map.of(PREFIX_NAME, Arrays.asList("z", "elle")));
+    }
+
+    @Test
+    public void find_afterChanges_sameResultsAsPredicate() {
+        Person editedBenson = new PatientBuilder(BENSON).withName("Benson Kurz").build();
+        index.update(BENSON, editedBenson);
+        index.remove(CARL.getNric());
+        index.add(HOON);
+        Map<Prefix, List<String>> keywords = Map.of(PREFIX_GLOBAL, Arrays.asList("kurz", "meier"));
+
+        Set<Nric> expectedNrics = Set.of(editedBenson.getNric(), DANIEL.getNric(), HOON.getNric());
+        assertEquals(expectedNrics, index.find(new PersonContainsKeywordsPredicate(keywords)));
+    }
+
+    @Test
+    public void find_afterMostPersonsRemoved_sameResultsAsPredicate() {
+        for (int i = 0; i < 5; i++) {
+            index.update(persons.get(i), persons.get(i));
+        }
+        index.remove(ALICE.getNric());
+        index.remove(BENSON.getNric());
+        persons.remove(ALICE);
+        persons.remove(BENSON);
+
+        assertSameResultsAsPredicate(Map.of(PREFIX_GLOBAL, Arrays.asList("meier", "ali", "street")));
+    }
+
+    @Test
+    public void asIndexedPredicate_personNotInIndex_testedDirectly() {
+        Predicate<Person> predicate = index.asIndexedPredicate(
+                new PersonContainsKeywordsPredicate(Map.of(PREFIX_NAME, Collections.singletonList("alice"))));
+        assertTrue(predicate.test(ALICE));
+        assertFalse(predicate.test(BENSON));
+
+        // a person with the same nric as an indexed person, but different attributes
+        assertFalse(predicate.test(new PatientBuilder(ALICE).withName("Alicia Pauline").build()));
+        assertTrue(predicate.test(new PatientBuilder(BENSON).withName("Alice Meier").build()));
+    }
+
+    /**
+     * Asserts that the index finds exactly the persons that match a predicate with {@code keywords}.
+     */
+    private void assertSameResultsAsPredicate(Map<Prefix, List<String>> keywords) {
+        PersonContainsKeywordsPredicate predicate = new PersonContainsKeywordsPredicate(keywords);
+        Set<Nric> expectedNrics = persons.stream().filter(predicate).map(Person::getNric).collect(Collectors.toSet());
+        assertEquals(expectedNrics, index.find(predicate));
+    }
+}
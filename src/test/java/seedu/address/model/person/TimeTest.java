@@ -0,0 +1,59 @@
+package seedu.address.model.person;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+public class TimeTest {
+
+    @Test
+    public void getMinuteOfDay() {
+        assertEquals(0, new Time("0000").getMinuteOfDay());
+        assertEquals(810, new Time("1330").getMinuteOfDay());
+        assertEquals(1439, new Time("2359").getMinuteOfDay());
+    }
+
+    @Test
+    public void comparisons() {
+        Time earlier = new Time("0959");
+        Time later = new Time("1000");
+
+        assertTrue(earlier.comesBefore(later));
+        assertTrue(earlier.comesBefore(new Time("0959")));
+        assertFalse(later.comesBefore(earlier));
+
+        assertTrue(later.comesAfter(earlier));
+        assertTrue(later.comesAfter(new Time("1000")));
+        assertFalse(earlier.comesAfter(later));
+
+        assertTrue(earlier.comesStrictlyBefore(later));
+        assertFalse(earlier.comesStrictlyBefore(new Time("0959")));
+
+        // times that are not on the clock are still compared by their HHMM value
+        assertTrue(new Time("2400").comesAfter(new Time("2359")));
+        assertTrue(new Time("900").comesBefore(new Time("0901")));
+    }
+
+    @Test
+    public void equals() {
+        Time time = new Time("1330");
+
+        assertTrue(time.equals(new Time("1330")));
+        assertEquals(time.hashCode(), new Time("1330").hashCode());
+        assertFalse(time.equals(new Time("1331")));
+        assertTrue(new Time("111111").equals(new Time("111111")));
+        assertFalse(new Time("2400").equals(new Time("0000")));
+        assertFalse(time.equals(null));
+        assertFalse(time.equals("1330"));
+    }
+
+    @Test
+    public void isValidTime() {
+        assertTrue(new Time("2359").isValidTime());
+        assertFalse(new Time("2400").isValidTime());
+        assertFalse(new Time("1260").isValidTime());
+        assertFalse(new Time("111111").isValidTime());
+    }
+}
@@ -9,11 +9,14 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.ELLE;
 
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Optional;
 
 import org.junit.Rule;
 import org.junit.Test;
@@ -199,6 +202,25 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void removeAll_personDoesNotExist_throwsPersonNotFoundException() {
+        uniquePersonList.add(ALICE);
+        thrown.expect(PersonNotFoundException.class);
+        uniquePersonList.removeAll(Arrays.asList(ALICE, BOB));
+    }
+
+    @Test
+    public void removeAll_existingPersons_removesPersons() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(ELLE);
+        uniquePersonList.removeAll(Arrays.asList(ELLE, ALICE));
+        UniquePersonList expectedUniquePersonList = new UniquePersonList();
+        expectedUniquePersonList.add(BOB);
+        assertEquals(expectedUniquePersonList, uniquePersonList);
+        assertEquals(Optional.of(BOB), uniquePersonList.getPerson(BOB.getNric()));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         thrown.expect(NullPointerException.class);
@@ -242,4 +264,53 @@ public class UniquePersonListTest {
         thrown.expect(UnsupportedOperationException.class);
         uniquePersonList.asUnmodifiableObservableList().remove(0);
     }
+
+    @Test
+    public void getPerson_personInList_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BOB);
+        assertEquals(Optional.of(BOB), uniquePersonList.getPerson(BOB.getNric()));
+        assertEquals(Optional.of(BOB), uniquePersonList.getPerson(new Nric(BOB.getNric().code.toLowerCase())));
+        assertEquals(Optional.empty(), uniquePersonList.getPerson(BENSON.getNric()));
+    }
+
+    @Test
+    public void getPerson_afterSetPersonWithDifferentIdentity_returnsEditedPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertEquals(Optional.empty(), uniquePersonList.getPerson(ALICE.getNric()));
+        assertEquals(Optional.of(BOB), uniquePersonList.getPerson(BOB.getNric()));
+    }
+
+    @Test
+    public void getPerson_afterRemove_remainingPersonsFound() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(BENSON);
+        uniquePersonList.add(BOB);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertEquals(Optional.of(BENSON), uniquePersonList.getPerson(BENSON.getNric()));
+        assertEquals(Optional.of(BOB), uniquePersonList.getPerson(BOB.getNric()));
+
+        uniquePersonList.setPerson(BOB, AMY);
+        assertEquals(Arrays.asList(BENSON, AMY), uniquePersonList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void hasSuchDoctor_patientWithSameDetails_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(ELLE);
+        assertTrue(uniquePersonList.hasSuchPatient(ALICE.getName(), ALICE.getNric()));
+        assertFalse(uniquePersonList.hasSuchDoctor(ALICE.getName(), ALICE.getNric()));
+        assertTrue(uniquePersonList.hasSuchDoctor(ELLE.getName(), ELLE.getNric()));
+        assertFalse(uniquePersonList.hasSuchPatient(ELLE.getName(), ELLE.getNric()));
+    }
+
+    @Test
+    public void asUnmodifiableDoctorList_mixedList_onlyDoctors() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(ELLE);
+        assertEquals(Collections.singletonList(ELLE), uniquePersonList.asUnmodifiableDoctorList());
+        assertEquals(Collections.singletonList(ALICE), uniquePersonList.asUnmodifiablePatientList());
+    }
 }
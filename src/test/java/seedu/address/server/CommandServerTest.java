@@ -0,0 +1,180 @@
+package seedu.address.server;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.commons.core.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import seedu.address.logic.commands.FindCommand;
+import seedu.address.logic.commands.HistoryCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+
+public class CommandServerTest {
+
+    private Model model;
+    private CommandServer server;
+
+    @Before
+    public void setUp() throws IOException {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        server = new CommandServer(model, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+        server.start();
+    }
+
+    @After
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    public void postCommand_validCommands_executedInOrder() throws IOException {
+        String aliceNric = ALICE.getNric().toString();
+        Response findResponse = request("POST", CommandServer.COMMANDS_PATH, FindCommand.COMMAND_WORD + " ic/"
+                + aliceNric);
+        assertEquals(200, findResponse.status);
+        assertTrue(findResponse.body.contains("1. " + ALICE.getName() + " " + aliceNric));
+
+        assertEquals(200, request("GET", CommandServer.PERSONS_PATH + "?nric=" + aliceNric, "").status);
+        assertEquals(200, request("POST", CommandServer.COMMANDS_PATH, "delete 1").status);
+        // the persons are read from a copy that is updated once the deletion has been made
+        assertEquals(404, request("GET", CommandServer.PERSONS_PATH + "?nric=" + aliceNric, "").status);
+    }
+
+    @Test
+    public void postCommand_differentClients_listPersonsIndependently() throws IOException {
+        String aliceNric = ALICE.getNric().toString();
+        Response findResponse = request("POST", CommandServer.COMMANDS_PATH, FindCommand.COMMAND_WORD + " ic/"
+                + aliceNric, "front desk");
+        assertTrue(findResponse.body.contains("1. " + ALICE.getName() + " " + aliceNric));
+        assertFalse(findResponse.body.contains(BENSON.getName().toString()));
+
+        // the persons found by the front desk are not listed to the other client
+        Response listResponse = request("POST", CommandServer.COMMANDS_PATH, "list", "ward");
+        assertTrue(listResponse.body.contains(BENSON.getName().toString()));
+
+        // a person deleted by the front desk is deleted for every client
+        assertEquals(200, request("POST", CommandServer.COMMANDS_PATH, "delete 1", "front desk").status);
+        assertEquals(404, request("GET", CommandServer.PERSONS_PATH + "?nric=" + aliceNric, "", "ward").status);
+        listResponse = request("POST", CommandServer.COMMANDS_PATH, "list", "ward");
+        assertFalse(listResponse.body.contains(aliceNric));
+    }
+
+    @Test
+    public void postCommand_tooManyClients_refused() throws IOException {
+        restartServer(2, Long.MAX_VALUE);
+        assertEquals(200, request("POST", CommandServer.COMMANDS_PATH, "list", "front desk").status);
+        assertEquals(200, request("POST", CommandServer.COMMANDS_PATH, "list", "ward").status);
+
+        assertEquals(503, request("POST", CommandServer.COMMANDS_PATH, "list", "pharmacy").status);
+        assertEquals(2, server.getClientCount());
+        // the clients that are kept are still served
+        assertEquals(200, request("POST", CommandServer.COMMANDS_PATH, "list", "front desk").status);
+    }
+
+    @Test
+    public void postCommand_idleClient_releasedForAnotherClient() throws IOException {
+        restartServer(1, 0);
+        assertEquals(200, request("POST", CommandServer.COMMANDS_PATH, "list", "front desk").status);
+        assertEquals(200, request("POST", CommandServer.COMMANDS_PATH, "list", "ward").status);
+        assertEquals(1, server.getClientCount());
+
+        // the front desk is created again, without the commands it entered before it was released
+        Response historyResponse = request("POST", CommandServer.COMMANDS_PATH, HistoryCommand.COMMAND_WORD,
+                "front desk");
+        assertTrue(historyResponse.body.startsWith(HistoryCommand.MESSAGE_NO_HISTORY));
+    }
+
+    @Test
+    public void postCommand_clientIdTooLong_badRequest() throws IOException {
+        String clientId = "c".repeat(CommandServer.MAX_CLIENT_ID_LENGTH + 1);
+        assertEquals(400, request("POST", CommandServer.COMMANDS_PATH, "list", clientId).status);
+        assertEquals(0, server.getClientCount());
+    }
+
+    @Test
+    public void postCommand_invalidCommand_badRequest() throws IOException {
+        Response response = request("POST", CommandServer.COMMANDS_PATH, "uicfhmowqewca");
+        assertEquals(400, response.status);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, response.body);
+    }
+
+    @Test
+    public void getCommands_badMethod() throws IOException {
+        assertEquals(405, request("GET", CommandServer.COMMANDS_PATH, "").status);
+    }
+
+    /**
+     * Replaces the server with one that keeps at most {@code maxClientCount} clients, and releases the clients that
+     * have been idle for {@code clientIdleTimeoutNanos}.
+     */
+    private void restartServer(int maxClientCount, long clientIdleTimeoutNanos) throws IOException {
+        server.stop();
+        server = new CommandServer(model, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+                maxClientCount, clientIdleTimeoutNanos);
+        server.start();
+    }
+
+    /**
+     * Sends a request with {@code method} to {@code path} on the server, with {@code body} if it is not empty, as the
+     * default client.
+     */
+    private Response request(String method, String path, String body) throws IOException {
+        return request(method, path, body, CommandServer.DEFAULT_CLIENT_ID);
+    }
+
+    /**
+     * Sends a request with {@code method} to {@code path} on the server, with {@code body} if it is not empty, as the
+     * client with {@code clientId}.
+     */
+    private Response request(String method, String path, String body, String clientId) throws IOException {
+        InetSocketAddress address = server.getAddress();
+        URL url = new URL("http", address.getHostString(), address.getPort(), path);
+        HttpURLConnection connection = (HttpURLConnection) url.openConnection();
+        connection.setRequestMethod(method);
+        connection.setRequestProperty(CommandServer.CLIENT_ID_HEADER, clientId);
+        if (!body.isEmpty()) {
+            connection.setDoOutput(true);
+            try (OutputStream requestBody = connection.getOutputStream()) {
+                requestBody.write(body.getBytes(StandardCharsets.UTF_8));
+            }
+        }
+
+        int status = connection.getResponseCode();
+        InputStream responseBody = status < 400 ? connection.getInputStream() : connection.getErrorStream();
+        String responseText = responseBody == null ? "" : new String(responseBody.readAllBytes(),
+                StandardCharsets.UTF_8);
+        connection.disconnect();
+        return new Response(status, responseText);
+    }
+
+    /**
+     * The status and body of a response from the server.
+     */
+    private static class Response {
+        private final int status;
+        private final String body;
+
+        Response(int status, String body) {
+            this.status = status;
+            this.body = body;
+        }
+    }
+}
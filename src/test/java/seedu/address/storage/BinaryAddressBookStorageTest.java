@@ -0,0 +1,128 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Nric;
+import seedu.address.testutil.DoctorBuilder;
+import seedu.address.testutil.PatientBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "XmlSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.xml");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private BinaryAddressBookStorage storage;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.bin");
+        storage = new BinaryAddressBookStorage(filePath);
+    }
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data", "addressbook.xml")));
+        assertEquals(Paths.get("data", "addressbook.dat.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data", "addressbook.dat")));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_appointmentsAndMedicalRecords_keptLosslessly() throws Exception {
+        AddressBook original = new AddressBook();
+        original.addPerson(new DoctorBuilder().withName("Morning").withNric("S6219609B")
+                .withAppointments("22.11.2030,0900,1000,Morning,S6219609B,Bob,S3869036A").build());
+        original.addPerson(new PatientBuilder().withName("Bob").withNric("S3869036A")
+                .withAppointments("22.11.2030,0900,1000,Morning,S6219609B,Bob,S3869036A")
+                .withMedicalRecord("22.11.2030, Diagnosis: flu, Treatment: rest, Comments: -").build());
+        storage.saveAddressBook(original);
+
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        for (int i = 0; i < original.getPersonList().size(); i++) {
+            XmlAdaptedPerson expected = original.getPersonList().get(i).toXmlVersion(original.getPersonList().get(i));
+            XmlAdaptedPerson actual = readBack.getPersonList().get(i).toXmlVersion(readBack.getPersonList().get(i));
+            assertEquals(expected.appointmentList, actual.appointmentList);
+            assertEquals(expected.medicalRecordLibrary, actual.medicalRecordLibrary);
+            assertEquals(expected.medicalDepartment, actual.medicalDepartment);
+        }
+    }
+
+    @Test
+    public void readAddressBook_corruptedFile_throwsDataConversionException() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 2] ^= 0x55;
+        Files.write(filePath, bytes);
+
+        thrown.expect(DataConversionException.class);
+        storage.readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_notBinaryFormat_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        storage.readAddressBook(TYPICAL_PERSONS_FILE);
+    }
+
+    @Test
+    public void saveAddressBook_repeatedStrings_storedOnce() throws Exception {
+        AddressBook addressBook = getTypicalAddressBook();
+        storage.saveAddressBook(addressBook);
+        long sizeWithDistinctPersons = Files.size(filePath);
+
+        for (int i = 0; i < 50; i++) {
+            addressBook.addPerson(new PatientBuilder(ALICE).withNric("S" + Nric.generateCode(1234500 + i)).build());
+        }
+        storage.saveAddressBook(addressBook);
+        assertTrue(Files.size(filePath) < sizeWithDistinctPersons + 50 * 64);
+    }
+
+    @Test
+    public void convert_xmlAddressBook_sameAddressBook() throws Exception {
+        BinaryAddressBookStorage.convert(new XmlAddressBookStorage(TYPICAL_PERSONS_FILE), storage);
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+}
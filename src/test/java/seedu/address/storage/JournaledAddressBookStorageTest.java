@@ -0,0 +1,154 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PatientBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.xml");
+    }
+
+    @Test
+    public void constructor_nonPositiveCompactionThreshold_throwsIllegalArgumentException() {
+        thrown.expect(IllegalArgumentException.class);
+        new JournaledAddressBookStorage(new XmlAddressBookStorage(filePath), 0);
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(createStorage().readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_changedPersons_onlyChangesAppendedToJournal() throws Exception {
+        JournaledAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        byte[] snapshot = Files.readAllBytes(filePath);
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+
+        original.updatePerson(ALICE, new PatientBuilder(ALICE).withPhone("91234567").build());
+        original.removePerson(BENSON);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertTrue(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, new AddressBook(createStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_unchangedPersons_journalNotWritten() throws Exception {
+        JournaledAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(new AddressBook(original));
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+    }
+
+    @Test
+    public void saveAddressBook_reorderedPersons_snapshotRewritten() throws Exception {
+        JournaledAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertTrue(Files.exists(storage.getJournalFilePath()));
+
+        List<Person> reversedPersons = new ArrayList<>(original.getPersonList());
+        Collections.reverse(reversedPersons);
+        original.setPersons(reversedPersons);
+        storage.saveAddressBook(original);
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, new AddressBook(new XmlAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_compactedIntoSnapshot() throws Exception {
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new XmlAddressBookStorage(filePath), 1);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        storage.awaitCompaction();
+
+        assertFalse(Files.exists(storage.getJournalFilePath()));
+        assertEquals(original, new AddressBook(new XmlAddressBookStorage(filePath).readAddressBook().get()));
+
+        // saves after the compaction are journaled again
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        storage.awaitCompaction();
+        assertEquals(original, new AddressBook(createStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_recordIgnored() throws Exception {
+        JournaledAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        Files.write(storage.getJournalFilePath(), new byte[] {0, 0, 1, 0, 42}, StandardOpenOption.APPEND);
+
+        assertEquals(original, new AddressBook(createStorage().readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_afterIncompleteLastRecord_laterChangesKept() throws Exception {
+        JournaledAddressBookStorage storage = createStorage();
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        Files.write(storage.getJournalFilePath(), new byte[] {0, 0, 1, 0, 42}, StandardOpenOption.APPEND);
+
+        // the storage of the next run reads past the incomplete record and then saves another change
+        JournaledAddressBookStorage restartedStorage = createStorage();
+        AddressBook restarted = new AddressBook(restartedStorage.readAddressBook().get());
+        restarted.addPerson(IDA);
+        restartedStorage.saveAddressBook(restarted);
+
+        assertEquals(restarted, new AddressBook(createStorage().readAddressBook().get()));
+    }
+
+    private JournaledAddressBookStorage createStorage() {
+        return new JournaledAddressBookStorage(new XmlAddressBookStorage(filePath));
+    }
+}
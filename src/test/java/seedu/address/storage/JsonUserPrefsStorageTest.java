@@ -79,6 +79,12 @@ public class JsonUserPrefsStorageTest {
         assertEquals(expected, actual);
     }
 
+    @Test
+    public void readUserPrefs_negativeHistoryDepth_defaultDepthUsed() throws DataConversionException {
+        UserPrefs actual = readUserPrefs("NegativeHistoryDepthUserPrefs.json").get();
+        assertEquals(UserPrefs.DEFAULT_HISTORY_DEPTH, actual.getHistoryDepth());
+    }
+
     private UserPrefs getTypicalUserPrefs() {
         UserPrefs userPrefs = new UserPrefs();
         userPrefs.setGuiSettings(1000, 500, 300, 100);
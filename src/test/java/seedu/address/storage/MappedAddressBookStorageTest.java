@@ -0,0 +1,102 @@
+package seedu.address.storage;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+import javafx.collections.FXCollections;
+import seedu.address.commons.exceptions.DataConversionException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Nric;
+import seedu.address.testutil.PatientBuilder;
+
+public class MappedAddressBookStorageTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "XmlSerializableAddressBookTest");
+
+    @Rule
+    public ExpectedException thrown = ExpectedException.none();
+
+    @Rule
+    public TemporaryFolder testFolder = new TemporaryFolder();
+
+    private Path filePath;
+    private MappedAddressBookStorage storage;
+
+    @Before
+    public void setUp() {
+        filePath = testFolder.getRoot().toPath().resolve("TempAddressBook.bin");
+        storage = new MappedAddressBookStorage(filePath);
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAddressBook_savedInBinaryFormat_sameAddressBook() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        for (int i = 0; i < 200; i++) {
+            original.addPerson(new PatientBuilder(ALICE).withNric("S" + Nric.generateCode(2345600 + i)).build());
+        }
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_afterRead_fileReplaced() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        storage.readAddressBook();
+
+        // the file is no longer in use once it has been read, so it can be overwritten and replaced
+        AddressBook withAliceOnly = new AddressBook();
+        withAliceOnly.addPerson(ALICE);
+        storage.saveAddressBook(withAliceOnly);
+        assertEquals(withAliceOnly, new AddressBook(storage.readAddressBook().get()));
+        Path replacement = testFolder.getRoot().toPath().resolve("ReplacementAddressBook.bin");
+        new BinaryAddressBookStorage(replacement).saveAddressBook(getTypicalAddressBook());
+        Files.move(replacement, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        assertEquals(getTypicalAddressBook(), new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_duplicatePersons_throwsDataConversionException() throws Exception {
+        storage.saveAddressBook(() -> FXCollections.observableArrayList(ALICE, BENSON, ALICE));
+
+        thrown.expect(DataConversionException.class);
+        storage.readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_corruptedFile_throwsDataConversionException() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[bytes.length / 2] ^= 0x55;
+        Files.write(filePath, bytes);
+
+        thrown.expect(DataConversionException.class);
+        storage.readAddressBook();
+    }
+
+    @Test
+    public void readAddressBook_notBinaryFormat_throwsDataConversionException() throws Exception {
+        thrown.expect(DataConversionException.class);
+        storage.readAddressBook(TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.xml"));
+    }
+}
@@ -3,11 +3,16 @@ package seedu.address.storage;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
 
 import org.junit.Before;
 import org.junit.Rule;
@@ -80,9 +85,50 @@ public class StorageManagerTest {
         Storage storage = new StorageManager(new XmlAddressBookStorageExceptionThrowingStub(Paths.get("dummy")),
                                              new JsonUserPrefsStorage(Paths.get("dummy")));
         storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(new AddressBook()));
+        storage.flushAddressBook();
         assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
     }
 
+    @Test
+    public void handleAddressBookChangedEvent_errorThrown_eventRaised() {
+        Storage storage = new StorageManager(new XmlAddressBookStorageErrorThrowingStub(Paths.get("dummy")),
+                                             new JsonUserPrefsStorage(Paths.get("dummy")));
+        storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(new AddressBook()));
+        storage.flushAddressBook();
+        assertTrue(eventsCollectorRule.eventsCollector.getMostRecent() instanceof DataSavingExceptionEvent);
+        assertEquals(0, storage.getPendingChangeCount());
+    }
+
+    @Test
+    public void handleAddressBookChangedEvent_changesDuringSave_coalescedIntoOneSave() throws Exception {
+        XmlAddressBookStorageBlockingStub addressBookStorage =
+                new XmlAddressBookStorageBlockingStub(Paths.get("dummy"));
+        Storage storage = new StorageManager(addressBookStorage, new JsonUserPrefsStorage(Paths.get("dummy")));
+
+        storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(new AddressBook()));
+        addressBookStorage.saveStarted.await();
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(addressBook));
+        addressBook.addPerson(BENSON);
+        storage.handleAddressBookChangedEvent(new AddressBookChangedEvent(addressBook));
+        assertEquals(3, storage.getPendingChangeCount());
+
+        addressBookStorage.saveAllowed.countDown();
+        storage.flushAddressBook();
+
+        assertEquals(0, storage.getPendingChangeCount());
+        assertTrue(storage.getLastSaveLatencyNanos() >= 0);
+        assertEquals(2, addressBookStorage.savedAddressBooks.size());
+        assertEquals(addressBook, addressBookStorage.savedAddressBooks.get(1));
+    }
+
+    @Test
+    public void readAddressBook_changesPending_changesSavedFirst() throws Exception {
+        storageManager.handleAddressBookChangedEvent(new AddressBookChangedEvent(getTypicalAddressBook()));
+        assertEquals(getTypicalAddressBook(), new AddressBook(storageManager.readAddressBook().get()));
+    }
 
     /**
      * A Stub class to throw an exception when the save method is called
@@ -99,5 +145,43 @@ public class StorageManagerTest {
         }
     }
 
+    /**
+     * A Stub class to throw an error when the save method is called
+     */
+    class XmlAddressBookStorageErrorThrowingStub extends XmlAddressBookStorage {
+
+        public XmlAddressBookStorageErrorThrowingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+            throw new AssertionError("dummy error");
+        }
+    }
+
+    /**
+     * A Stub class that records the saved address books, and blocks the first save until it is allowed.
+     */
+    class XmlAddressBookStorageBlockingStub extends XmlAddressBookStorage {
+        private final CountDownLatch saveStarted = new CountDownLatch(1);
+        private final CountDownLatch saveAllowed = new CountDownLatch(1);
+        private final List<ReadOnlyAddressBook> savedAddressBooks = new ArrayList<>();
+
+        public XmlAddressBookStorageBlockingStub(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            saveStarted.countDown();
+            try {
+                saveAllowed.await();
+            } catch (InterruptedException ie) {
+                throw new IOException(ie);
+            }
+            savedAddressBooks.add(new AddressBook(addressBook));
+        }
+    }
 
 }
@@ -11,7 +11,9 @@ import org.junit.rules.ExpectedException;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.XmlUtil;
+import seedu.address.commons.util.FileUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.testutil.TestUtil;
 import seedu.address.testutil.TypicalPersons;
 
 public class XmlSerializableAddressBookTest {
@@ -20,6 +22,7 @@ public class XmlSerializableAddressBookTest {
     private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.xml");
     private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.xml");
     private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.xml");
+    private static final Path TEMP_FILE = TestUtil.getFilePathInSandboxFolder("tempStreamedAddressBook.xml");
 
     @Rule
     public ExpectedException thrown = ExpectedException.none();
@@ -50,4 +53,28 @@ public class XmlSerializableAddressBookTest {
         dataFromFile.toModelType();
     }
 
+    @Test
+    public void readFromFile_typicalPersonsFile_success() throws Exception {
+        AddressBook addressBookFromFile = XmlSerializableAddressBook.readFromFile(TYPICAL_PERSONS_FILE);
+        assertEquals(TypicalPersons.getTypicalAddressBook(), addressBookFromFile);
+    }
+
+    @Test
+    public void readFromFile_duplicatePersons_throwsIllegalValueException() throws Exception {
+        thrown.expect(IllegalValueException.class);
+        thrown.expectMessage(XmlSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        XmlSerializableAddressBook.readFromFile(DUPLICATE_PERSON_FILE);
+    }
+
+    @Test
+    public void saveToFile_typicalPersons_sameAsSerializableAddressBook() throws Exception {
+        AddressBook typicalPersonsAddressBook = TypicalPersons.getTypicalAddressBook();
+        FileUtil.createFile(TEMP_FILE);
+        XmlSerializableAddressBook.saveToFile(TEMP_FILE, typicalPersonsAddressBook);
+
+        assertEquals(new XmlSerializableAddressBook(typicalPersonsAddressBook),
+                XmlUtil.getDataFromFile(TEMP_FILE, XmlSerializableAddressBook.class));
+        assertEquals(typicalPersonsAddressBook, XmlSerializableAddressBook.readFromFile(TEMP_FILE));
+    }
+
 }